@@ -0,0 +1,63 @@
+#!/usr/bin/env bash
+# 조회수 중복 판별 방식별 Redis 키 수/메모리 비교.
+#  - KEY: 조회자마다 TTL 키 (view:post:{postId}:{viewerId})
+#  - SCRIPT: KEY와 같은 조회자 키 + 미반영 증가분 Hash (view:pending)
+#  - HLL: 게시글·TTL 구간당 HyperLogLog 하나 (view:hll:{postId}:{구간}) + 순 조회자 수 HyperLogLog (view:hll:post:{postId}:unique)
+#         PFADD가 1을 반환한 조회만 세므로, 세어진 조회 수(counted)와 조회자 수의 차이가 누락분이다.
+# N명의 가상 조회자를 한 게시글에 기록한 뒤 DBSIZE, INFO memory(used_memory) 차이를 출력한다.
+# 측정값은 Redis 버전과 설정(hll-sparse-max-bytes 등)에 따라 달라지므로 저장소에 숫자를 남기지 않고, 방식을 고를 때 대상 환경에서 실행한다.
+#
+# 사용: scripts/view-dedupe-memory.sh [조회자 수...]   (기본 1000 10000 100000)
+# 환경 변수: REDIS_HOST(localhost) REDIS_PORT(6379) REDIS_DB(15, 측정 전후로 FLUSHDB 하므로 비어 있는 DB만 허용)
+set -euo pipefail
+
+HOST=${REDIS_HOST:-localhost}
+PORT=${REDIS_PORT:-6379}
+DB=${REDIS_DB:-15}
+TTL=300
+COUNTS=("$@")
+[ ${#COUNTS[@]} -eq 0 ] && COUNTS=(1000 10000 100000)
+
+cli() { redis-cli -h "$HOST" -p "$PORT" -n "$DB" "$@"; }
+used_memory() { cli INFO memory | tr -d '\r' | awk -F: '$1 == "used_memory" { print $2 }'; }
+
+# 10.x.y.z 형식의 가상 조회자 식별값 n개
+viewers() { awk -v n="$1" 'BEGIN { for (i = 0; i < n; i++)
+    printf "ip:10.%d.%d.%d\n", int(i / 65536) % 256, int(i / 256) % 256, i % 256 }'; }
+
+report() {
+    local n=$1 mode=$2 before=$3 after=$4
+    printf '%-10s %-7s %10s %14s %16s\n' "$n" "$mode" "$(cli DBSIZE)" $((after - before)) $(((after - before) / n))
+    cli FLUSHDB > /dev/null
+}
+
+if [ "$(cli DBSIZE)" != "0" ]; then
+    echo "DB $DB 가 비어 있지 않습니다. 비어 있는 DB를 REDIS_DB로 지정하세요." >&2
+    exit 1
+fi
+
+printf '%-10s %-7s %10s %14s %16s\n' viewers mode keys used_bytes bytes_per_viewer
+for n in "${COUNTS[@]}"; do
+    # KEY: 조회자별 SET NX EX
+    before=$(used_memory)
+    viewers "$n" | awk -v ttl="$TTL" '{ printf "SET view:post:1:%s 1 NX EX %d\n", $1, ttl }' | cli --pipe > /dev/null
+    after=$(used_memory)
+    report "$n" KEY "$before" "$after"
+
+    # SCRIPT: 조회자 키 + 미반영 증가분 Hash 한 필드
+    before=$(used_memory)
+    viewers "$n" | awk -v ttl="$TTL" '{ printf "SET view:post:1:%s 1 NX EX %d\nHINCRBY view:pending 1 1\n", $1, ttl }' \
+        | cli --pipe > /dev/null
+    after=$(used_memory)
+    report "$n" SCRIPT "$before" "$after"
+
+    # HLL: 조회자마다 PFADD 한 번 (반환값 1의 개수가 세어진 조회 수)
+    before=$(used_memory)
+    counted=$(viewers "$n" | awk '{ printf "PFADD view:hll:1:0 %s\n", $1 }' | cli | grep -c '^1$' || true)
+    viewers "$n" | awk '{ printf "PFADD view:hll:post:1:unique %s\n", $1 }' | cli --pipe > /dev/null
+    cli EXPIRE view:hll:1:0 "$TTL" > /dev/null
+    after=$(used_memory)
+    estimated=$(cli PFCOUNT view:hll:1:0)
+    report "$n" HLL "$before" "$after"
+    printf '%-10s %-7s   counted %s / %s (PFCOUNT %s)\n' "$n" HLL "$counted" "$n" "$estimated"
+done
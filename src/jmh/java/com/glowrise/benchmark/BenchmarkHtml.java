@@ -0,0 +1,31 @@
+package com.glowrise.benchmark;
+
+/**
+ * 벤치마크용 게시글 본문. 에디터가 만드는 HTML과 비슷하게 문단, 강조, 링크, 이미지, 표를 섞고,
+ * 정화 대상이 되는 스크립트/이벤트 속성도 일부 포함한다.
+ */
+final class BenchmarkHtml {
+
+    private BenchmarkHtml() {
+    }
+
+    static String build(int seed, int length) {
+        StringBuilder html = new StringBuilder(length + 512);
+        int paragraph = 0;
+        while (html.length() < length) {
+            html.append("<p>글 ").append(seed).append('-').append(paragraph)
+                    .append(" 본문입니다. <strong>강조된 문장</strong>과 <a href=\"https://glowrise.com/posts/")
+                    .append(paragraph).append("\">링크</a>가 포함된 <span style=\"color: #333333\">문단</span>입니다.</p>");
+            if (paragraph % 5 == 0) {
+                html.append("<p><img src=\"/api/files/").append(paragraph)
+                        .append("\" alt=\"image\" onerror=\"alert(1)\"></p>");
+            }
+            if (paragraph % 20 == 0) {
+                html.append("<table><tr><td>항목</td><td>").append(paragraph).append("</td></tr></table>")
+                        .append("<script>document.cookie</script>");
+            }
+            paragraph++;
+        }
+        return html.toString();
+    }
+}
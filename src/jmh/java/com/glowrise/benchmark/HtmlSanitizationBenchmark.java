@@ -0,0 +1,75 @@
+package com.glowrise.benchmark;
+
+import com.glowrise.config.HtmlSanitizerConfig;
+import com.glowrise.service.HtmlSanitizationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.owasp.html.PolicyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HtmlSanitizerConfig의 정책으로 게시글 본문을 정화하는 비용 비교.
+ * policy: 매번 PolicyFactory로 정화 (이전 방식)
+ * memoizedHit: 같은 본문을 다시 저장하는 경우 (자동 저장 반복) - 해시 계산 + 캐시 조회
+ * memoizedMiss: 매번 조금씩 다른 본문 - 해시 계산 + 정화 + 캐시 저장
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HtmlSanitizationBenchmark {
+
+    public enum BodySize {
+        SMALL(1_000),      // 짧은 메모
+        MEDIUM(20_000),    // 일반적인 글
+        HUGE(150_000);     // 표와 이미지가 많은 긴 글
+
+        private final int length;
+
+        BodySize(int length) {
+            this.length = length;
+        }
+    }
+
+    @Param
+    private BodySize size;
+
+    private PolicyFactory policy;
+    private HtmlSanitizationService sanitizationService;
+    private String html;
+    private long revision;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        policy = new HtmlSanitizerConfig().htmlPolicyFactory();
+        sanitizationService = new HtmlSanitizationService(policy, new SimpleMeterRegistry(),
+                BodySize.HUGE.length * 2, 64L * 1024 * 1024, 3600);
+        html = BenchmarkHtml.build(0, size.length);
+        sanitizationService.sanitize(html);
+    }
+
+    @Benchmark
+    public String policy() {
+        return policy.sanitize(html);
+    }
+
+    @Benchmark
+    public String memoizedHit() {
+        return sanitizationService.sanitize(html);
+    }
+
+    @Benchmark
+    public String memoizedMiss() {
+        return sanitizationService.sanitize(html + "<p>" + revision++ + "</p>");
+    }
+}
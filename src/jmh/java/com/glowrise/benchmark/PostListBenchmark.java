@@ -0,0 +1,158 @@
+package com.glowrise.benchmark;
+
+import com.glowrise.domain.Advertisement;
+import com.glowrise.domain.Blog;
+import com.glowrise.domain.Comment;
+import com.glowrise.domain.Menu;
+import com.glowrise.domain.Notification;
+import com.glowrise.domain.Post;
+import com.glowrise.domain.QMenu;
+import com.glowrise.domain.QPost;
+import com.glowrise.domain.StoredFile;
+import com.glowrise.domain.User;
+import com.glowrise.service.dto.PostDTO;
+import com.glowrise.service.dto.PostSummaryDTO;
+import com.glowrise.service.mapper.PostMapper;
+import com.glowrise.service.util.PostSummaryProjection;
+import com.glowrise.service.util.PostTextExtractor;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 한 페이지(20건)를 DTO로 만드는 비용 비교. H2 메모리 DB에 게시글 200건을 넣고 최신순 첫 페이지를 읽는다.
+ * summaryProjection: 현재 방식. 본문 없이 목록 컬럼만 PostSummaryDTO 생성자 프로젝션으로 읽는다.
+ * entityWithMapper: 이전 방식. menu, author를 fetch join한 Post 엔티티를 읽어 PostMapper로 PostDTO를 만든다.
+ * 매 호출마다 새 EntityManager를 열어 1차 캐시 없이 측정한다.
+ * H2는 같은 프로세스 안이라 본문 전송 비용이 빠지므로, MySQL에서는 본문 길이에 따른 차이가 더 벌어진다.
+ *
+ * 실행: ./gradlew jmh (build.gradle의 gc 프로파일러로 gc.alloc.rate.norm에 호출당 할당량이 함께 나온다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostListBenchmark {
+
+    private static final int POST_COUNT = 200;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"2000", "20000", "200000"})
+    private int contentLength;
+
+    private final PostMapper postMapper = Mappers.getMapper(PostMapper.class);
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .setProperty(AvailableSettings.URL, "jdbc:h2:mem:post-list-" + contentLength + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.USER, "sa")
+                .setProperty(AvailableSettings.PASS, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Blog.class)
+                .addAnnotatedClass(Menu.class)
+                .addAnnotatedClass(Post.class)
+                .addAnnotatedClass(Comment.class)
+                .addAnnotatedClass(StoredFile.class)
+                .addAnnotatedClass(Notification.class)
+                .addAnnotatedClass(Advertisement.class)
+                .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            User author = new User();
+            author.setUsername("writer");
+            author.setNickName("작성자");
+            session.persist(author);
+
+            Blog blog = new Blog();
+            blog.setTitle("벤치마크 블로그");
+            blog.setUrl("bench");
+            blog.setUser(author);
+            session.persist(blog);
+
+            Menu menu = new Menu();
+            menu.setName("글");
+            menu.setBlog(blog);
+            session.persist(menu);
+
+            PostTextExtractor extractor = new PostTextExtractor();
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < POST_COUNT; i++) {
+                String html = BenchmarkHtml.build(i, contentLength);
+                PostTextExtractor.PostText text = extractor.extract(html);
+                Post post = new Post();
+                post.setTitle("게시글 " + i);
+                post.setContent(html);
+                post.setPlainText(text.plainText());
+                post.setSnippet(text.snippet());
+                post.setWordCount(text.wordCount());
+                post.setViewCount(0L);
+                post.setMenu(menu);
+                post.setAuthor(author);
+                post.setLastModifiedDate(now.minusMinutes(i));
+                session.persist(post);
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<PostSummaryDTO> summaryProjection() {
+        QPost post = QPost.post;
+        EntityManager em = sessionFactory.createEntityManager();
+        try {
+            return PostSummaryProjection.select(new JPAQueryFactory(em))
+                    .orderBy(post.lastModifiedDate.desc(), post.id.desc())
+                    .limit(PAGE_SIZE)
+                    .fetch();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public List<PostDTO> entityWithMapper() {
+        QPost post = QPost.post;
+        QMenu menu = QMenu.menu;
+        EntityManager em = sessionFactory.createEntityManager();
+        try {
+            List<Post> posts = new JPAQueryFactory(em)
+                    .selectFrom(post)
+                    .join(post.menu, menu).fetchJoin()
+                    .join(post.author).fetchJoin()
+                    .orderBy(post.lastModifiedDate.desc(), post.id.desc())
+                    .limit(PAGE_SIZE)
+                    .fetch();
+            return posts.stream()
+                    .map(p -> {
+                        PostDTO dto = postMapper.toDto(p);
+                        dto.setUpdatedAt(p.getLastModifiedDate());
+                        return dto;
+                    })
+                    .toList();
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.glowrise.benchmark;
+
+import com.glowrise.service.search.PostSearchDocument;
+import com.glowrise.service.search.PostSearchHits;
+import com.glowrise.service.search.PostSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 검색 한 페이지(20건) 응답 시간 분포. SampleTime 모드라 결과에 p0.50, p0.99가 함께 출력된다.
+ * commonTerm: 모든 게시글에 나오는 단어 - 수만 건을 BM25로 채점/정렬하는 최악의 경우
+ * rareTerm: 약 1% 게시글에만 나오는 단어
+ * twoTerms: 두 단어가 모두 들어간 게시글 - 단어마다 절(clause)이 늘어나는 다중 검색어 채점
+ * deepPage: commonTerm의 50번째 페이지
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PostSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final String[] WORDS = {
+            "여행", "맛집", "개발", "일상", "사진", "리뷰", "영화", "음악", "운동", "요리",
+            "독서", "기록", "공부", "카페", "주말", "가을", "바다", "산책", "정리", "생각"
+    };
+
+    @Param({"10000", "50000"})
+    private int postCount;
+
+    private Path indexDir;
+    private PostSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        indexDir = Files.createTempDirectory("post-search-benchmark");
+        index = new PostSearchIndex(indexDir.toString(), 3.0f, 150);
+        index.open();
+
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<PostSearchDocument> batch = new ArrayList<>(1_000);
+        for (int i = 0; i < postCount; i++) {
+            LocalDateTime createdAt = base.plusMinutes(i);
+            batch.add(new PostSearchDocument((long) i, title(random, i), body(random, i), "작성자" + (i % 500),
+                    createdAt, createdAt));
+            if (batch.size() == 1_000) {
+                index.index(batch);
+                batch.clear();
+            }
+        }
+        index.index(batch);
+        index.commit(Map.of());
+        index.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        index.close();
+        try (Stream<Path> paths = Files.walk(indexDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public PostSearchHits commonTerm() {
+        return index.search("블로그", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public PostSearchHits rareTerm() {
+        return index.search("스프링부트", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public PostSearchHits twoTerms() {
+        return index.search("여행 맛집", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public PostSearchHits deepPage() {
+        return index.search("블로그", PAGE_SIZE * 49, PAGE_SIZE);
+    }
+
+    private static String title(Random random, int i) {
+        return WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " 이야기 " + i;
+    }
+
+    // 약 1,500자. 모든 글에 "블로그", 100개 중 1개 글에 "스프링부트"가 들어간다.
+    private static String body(Random random, int i) {
+        StringBuilder body = new StringBuilder(1_600);
+        body.append("블로그 글 ").append(i).append(". ");
+        if (i % 100 == 0) {
+            body.append("스프링부트 설정을 정리했습니다. ");
+        }
+        while (body.length() < 1_500) {
+            for (int w = 0; w < 8; w++) {
+                body.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            body.append("이야기를 적었습니다. ");
+        }
+        return body.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.glowrise.benchmark;
+
+import com.glowrise.service.dto.PostSummaryDTO;
+import com.glowrise.service.util.PostTextExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 결과 한 페이지(20건)의 요약을 만드는 비용 비교.
+ * parseOnRead: 이전 방식. 조회할 때마다 게시글 HTML을 파싱해 요약을 만든다.
+ * storedSnippet: 현재 방식. 저장 시 계산해 둔 요약을 그대로 DTO에 담는다.
+ * extractOnWrite: 현재 방식에서 게시글 저장 1회에 추가되는 비용.
+ *
+ * 실행: ./gradlew jmh (build.gradle의 gc 프로파일러로 할당량도 함께 나온다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostSnippetBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"2000", "20000", "200000"})
+    private int contentLength;
+
+    private final PostTextExtractor extractor = new PostTextExtractor();
+    private List<String> contents;
+    private List<String> storedSnippets;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contents = new ArrayList<>(PAGE_SIZE);
+        storedSnippets = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String html = BenchmarkHtml.build(i, contentLength);
+            contents.add(html);
+            storedSnippets.add(extractor.snippet(html));
+        }
+    }
+
+    @Benchmark
+    public void parseOnRead(Blackhole blackhole) {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            blackhole.consume(toSummary(i, extractor.snippet(contents.get(i))));
+        }
+    }
+
+    @Benchmark
+    public void storedSnippet(Blackhole blackhole) {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            blackhole.consume(toSummary(i, storedSnippets.get(i)));
+        }
+    }
+
+    @Benchmark
+    public PostTextExtractor.PostText extractOnWrite() {
+        return extractor.extract(contents.get(0));
+    }
+
+    private PostSummaryDTO toSummary(int index, String snippet) {
+        PostSummaryDTO dto = new PostSummaryDTO();
+        dto.setId((long) index);
+        dto.setTitle("게시글 " + index);
+        dto.setContentSnippet(snippet);
+        return dto;
+    }
+}
@@ -0,0 +1,94 @@
+package com.glowrise.benchmark;
+
+import com.glowrise.service.search.Suggestion;
+import com.glowrise.service.search.SuggestionTrie;
+import com.glowrise.service.search.SuggestionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 한 번(상위 10개)의 응답 시간 분포. SampleTime 모드라 p0.50, p0.99가 함께 출력된다.
+ * shortPrefix: 한 글자 입력 - 가장 많은 항목이 걸리는 경우
+ * composingPrefix: 조합 중인 한글 입력 ("여ㅎ")
+ * longPrefix: 제목 거의 전체를 입력한 경우
+ * update: 게시글 제목 변경 1건 반영 (기존 키 삭제 + 새 키 추가 + 경로의 상위 목록 재계산)
+ * 준비 단계에서 트라이가 차지하는 힙(Suggestion 객체 포함, GC 후 사용량 차이)도 출력한다.
+ * JDK 17, compressed oops 기준 10만 개에 약 70MB (트라이 구조만 약 56MB).
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SuggestionTrieBenchmark {
+
+    private static final int LIMIT = 10;
+    private static final String[] WORDS = {
+            "여행", "여름", "맛집", "개발", "일상", "사진", "리뷰", "영화", "음악", "운동",
+            "요리", "독서", "기록", "공부", "카페", "주말", "가을", "바다", "산책", "spring"
+    };
+
+    @Param({"100000"})
+    private int entryCount;
+
+    private SuggestionTrie trie;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long heapBefore = usedHeapAfterGc();
+        trie = new SuggestionTrie(LIMIT);
+        random = new Random(42);
+        for (int i = 0; i < entryCount; i++) {
+            trie.put(new Suggestion(SuggestionType.POST, (long) i, title(i), 1L, "blog", 1L, random.nextInt(100_000)));
+        }
+        long heapUsed = usedHeapAfterGc() - heapBefore;
+        System.out.printf("%n트라이 힙 사용량: 항목 %d개, %.1f MB%n", entryCount, heapUsed / (1024.0 * 1024.0));
+    }
+
+    @Benchmark
+    public List<Suggestion> shortPrefix() {
+        return trie.suggest("여", LIMIT);
+    }
+
+    @Benchmark
+    public List<Suggestion> composingPrefix() {
+        return trie.suggest("여ㅎ", LIMIT);
+    }
+
+    @Benchmark
+    public List<Suggestion> longPrefix() {
+        return trie.suggest("여행 맛집 기록 12", LIMIT);
+    }
+
+    @Benchmark
+    public void update() {
+        long id = random.nextInt(entryCount);
+        trie.put(new Suggestion(SuggestionType.POST, id, title(random.nextInt()), 1L, "blog", 1L, random.nextInt(100_000)));
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private String title(int seed) {
+        Random words = new Random(seed);
+        return WORDS[words.nextInt(WORDS.length)] + " " + WORDS[words.nextInt(WORDS.length)] + " "
+                + WORDS[words.nextInt(WORDS.length)] + " " + Math.abs(seed % 10_000);
+    }
+}
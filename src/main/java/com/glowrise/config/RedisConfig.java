@@ -1,13 +1,20 @@
 package com.glowrise.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
 @Configuration
 public class RedisConfig {
 
@@ -18,9 +25,28 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    // Lettuce 기본값(60초)이면 Redis가 응답하지 않는 동안 요청 스레드가 그만큼 묶인다.
+    // 요청 한도, 조회수 등 Redis 실패 시 대체 경로가 있는 호출이 빨리 대체 경로로 넘어가도록 짧게 둔다.
+    @Value("${spring.data.redis.timeout:500ms}")
+    private Duration commandTimeout;
+
+    @Value("${spring.data.redis.connect-timeout:1s}")
+    private Duration connectTimeout;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+        return lettuceConnectionFactory(host, port, commandTimeout, connectTimeout);
+    }
+
+    public static LettuceConnectionFactory lettuceConnectionFactory(String host, int port, Duration commandTimeout,
+                                                                    Duration connectTimeout) {
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(commandTimeout)
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                        .build())
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), clientConfiguration);
     }
 
     @Bean
@@ -30,4 +56,14 @@ public class RedisConfig {
         redisTemplate.setDefaultSerializer(new StringRedisSerializer());
         return redisTemplate;
     }
-}
\ No newline at end of file
+
+    /**
+     * 인스턴스 간 로컬 캐시 무효화 등 Redis Pub/Sub 구독용. 채널 등록은 각 구독 컴포넌트가 한다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+}
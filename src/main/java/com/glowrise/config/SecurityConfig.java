@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.glowrise.config.jwt.CustomOAuth2UserService;
 import com.glowrise.config.jwt.CustomSuccessHandler;
 import com.glowrise.config.jwt.JWTFilter;
+import com.glowrise.config.ratelimit.RateLimitFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -38,6 +39,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomSuccessHandler customSuccessHandler;
     private final JWTFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -58,6 +60,8 @@ public class SecurityConfig {
                                         "/api/posts/user/{userId}",
                                         "/api/posts/blog/{blogId}",
                                         "/api/posts/blog/{blogId}/{menuId}",
+                                        "/api/posts/blog/{blogId}/slice",
+                                        "/api/posts/blog/{blogId}/{menuId}/slice",
                                         "/api/blogs",
                                         "/api/blogs/{url}",
                                         "/uploads/**",
@@ -68,6 +72,7 @@ public class SecurityConfig {
                                         "/api/comments/post/{postId}",
                                         "/api/comments/{commentId}",
                                         "/api/comments/{commentId}/replies",
+                                        "/api/comments/{commentId}/thread",
                                         "/api/files/{fileId}",
                                         "/api/files/download/{fileId}"
                                 ).permitAll()
@@ -86,6 +91,7 @@ public class SecurityConfig {
                         exceptionHandling.authenticationEntryPoint(apiAuthenticationEntryPoint())
                 )
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JWTFilter.class) // 로그인 처리(/login)보다 먼저, 인증된 사용자 식별 후
                 .formLogin(form -> form
                         .loginProcessingUrl("/login")
                         .usernameParameter("email")
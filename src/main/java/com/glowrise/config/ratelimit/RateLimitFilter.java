@@ -0,0 +1,125 @@
+package com.glowrise.config.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.glowrise.config.jwt.dto.CustomOAuthUser;
+import com.glowrise.config.ratelimit.RateLimitProperties.KeyType;
+import com.glowrise.config.ratelimit.RateLimitProperties.Policy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 경로별 요청 한도(glowrise.rate-limit.policies). 보안 필터 체인에서 JWT 인증 뒤에 실행되어 로그인 사용자를 구분한다.
+ * 한 요청에 여러 정책이 걸리면(예: 사용자별 + IP별) 모두 통과해야 하며, 하나라도 넘으면 429와 Retry-After로 거부한다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+    private final List<CompiledPolicy> policies = new ArrayList<>();
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = properties.isEnabled();
+        this.meterRegistry = meterRegistry;
+        for (Policy policy : properties.getPolicies()) {
+            if (policy.getCapacity() < 1 || policy.getPerMinute() < 1) {
+                throw new IllegalArgumentException("요청 한도 정책의 capacity와 per-minute는 1 이상이어야 합니다: " + policy.getName());
+            }
+            if (policy.getPatterns().isEmpty()) {
+                throw new IllegalArgumentException("요청 한도 정책에 경로가 없습니다: " + policy.getName());
+            }
+            HttpMethod method = policy.getMethod() != null ? HttpMethod.valueOf(policy.getMethod()) : null;
+            List<RequestMatcher> matchers = policy.getPatterns().stream()
+                    .map(pattern -> (RequestMatcher) AntPathRequestMatcher.antMatcher(method, pattern))
+                    .toList();
+            policies.add(new CompiledPolicy(policy, new OrRequestMatcher(matchers)));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || policies.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        for (CompiledPolicy compiled : policies) {
+            if (!compiled.matcher().matches(request)) {
+                continue;
+            }
+            Policy policy = compiled.policy();
+            String subject = subject(request, policy.getKey());
+            RateLimiter.Decision decision = rateLimiter.tryAcquire(
+                    policy.getName() + ":" + subject, policy.getCapacity(), policy.getPerMinute());
+            if (!decision.allowed()) {
+                countThrottled(policy.getName(), subject, decision.backend());
+                reject(response, policy.getName(), decision.retryAfterMs());
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * USER 정책도 비로그인 요청은 IP로 센다. 로그인 사용자와 IP 키가 섞이지 않도록 앞에 종류를 붙인다.
+     */
+    private String subject(HttpServletRequest request, KeyType keyType) {
+        if (keyType == KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof CustomOAuthUser user
+                    && user.getUserId() != null) {
+                return "user:" + user.getUserId();
+            }
+        }
+        // X-Forwarded-For는 클라이언트가 임의로 채울 수 있으므로 직접 읽지 않는다. 신뢰하는 프록시가 붙인 값만
+        // 컨테이너(server.forward-headers-strategy, server.tomcat.remoteip)가 반영한 원격 주소를 쓴다.
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void countThrottled(String policy, String subject, RateLimiter.Backend backend) {
+        Counter.builder("glowrise.ratelimit.throttled")
+                .tag("policy", policy)
+                .tag("subject", subject.startsWith("user:") ? "user" : "ip")
+                .tag("backend", backend.name().toLowerCase(Locale.ROOT))
+                .description("요청 한도를 넘어 거부한 요청 수")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void reject(HttpServletResponse response, String policy, long retryAfterMs) throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, (retryAfterMs + 999) / 1000)));
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "요청 한도 초과");
+        error.put("message", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요. (" + policy + ")");
+        response.getWriter().write(objectMapper.writeValueAsString(error));
+    }
+
+    private record CompiledPolicy(Policy policy, RequestMatcher matcher) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.glowrise.config.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * glowrise.rate-limit 설정. 경로별 정책 목록은 @Value로 받을 수 없어 바인딩 클래스로 둔다.
+ */
+@ConfigurationProperties(prefix = "glowrise.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // Redis 호출이 실패하면 이 시간 동안 로컬 버킷만 쓴 뒤 다시 Redis를 시도한다.
+    private long redisRetryAfterMs = 5000;
+    // 로컬 대체 버킷 최대 수 (오래 안 쓴 키부터 정리)
+    private long localMaxKeys = 100_000;
+    private List<Policy> policies = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private String name;
+        private String method; // null이면 모든 메서드
+        private List<String> patterns = new ArrayList<>();
+        private KeyType key = KeyType.IP;
+        private int capacity; // 한 번에 몰아서 허용하는 최대 요청 수 (버킷 크기)
+        private int perMinute; // 지속적으로 허용하는 분당 요청 수 (토큰 보충 속도)
+    }
+
+    public enum KeyType {
+        USER, // 로그인 사용자 ID (비로그인 요청은 IP)
+        IP
+    }
+}
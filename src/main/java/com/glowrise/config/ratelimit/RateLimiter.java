@@ -0,0 +1,130 @@
+package com.glowrise.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 토큰 버킷 요청 한도. 버킷은 Redis에 두어 모든 인스턴스가 같은 한도를 나눠 쓰며,
+ * Redis에 닿지 않으면 redis-retry-after-ms 동안 인스턴스별 로컬 버킷으로 판단한다
+ * (그동안은 실제 한도가 인스턴스 수만큼 느슨해진다).
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    // KEYS[1]: 버킷 Hash / ARGV[1]: 버킷 크기, ARGV[2]: ms당 보충 토큰 수
+    // 반환: {허용 여부(1/0), 남은 토큰, 다음 토큰까지 대기 ms}. 시각은 인스턴스 간 시계 차이가 없도록 Redis TIME을 쓴다.
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local time = redis.call('TIME') " +
+                    "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+                    "local capacity = tonumber(ARGV[1]) " +
+                    "local rate = tonumber(ARGV[2]) " +
+                    "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+                    "local tokens = tonumber(bucket[1]) or capacity " +
+                    "local ts = tonumber(bucket[2]) or now " +
+                    "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) " +
+                    "local allowed = 0 " +
+                    "local retry = 0 " +
+                    "if tokens >= 1 then " +
+                    "  tokens = tokens - 1 " +
+                    "  allowed = 1 " +
+                    "else " +
+                    "  retry = math.ceil((1 - tokens) / rate) " +
+                    "end " +
+                    "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now) " +
+                    "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate)) " +
+                    "return {allowed, math.floor(tokens), retry}",
+            List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimitProperties properties;
+    private final Cache<String, LocalBucket> localBuckets;
+    private final Counter redisFailureCounter;
+    private volatile long redisUnavailableUntil;
+
+    public RateLimiter(RedisTemplate<String, String> redisTemplate, RateLimitProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxKeys())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.redisFailureCounter = Counter.builder("glowrise.ratelimit.redis.failures")
+                .description("요청 한도 판단 중 Redis 호출 실패 수 (실패 후 로컬 버킷으로 판단)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param key 정책 이름과 사용자/IP를 합친 버킷 키
+     */
+    public Decision tryAcquire(String key, int capacity, int perMinute) {
+        double ratePerMs = perMinute / 60_000.0;
+        if (System.currentTimeMillis() >= redisUnavailableUntil) {
+            try {
+                return acquireFromRedis(key, capacity, ratePerMs);
+            } catch (RuntimeException e) {
+                redisFailureCounter.increment();
+                redisUnavailableUntil = System.currentTimeMillis() + properties.getRedisRetryAfterMs();
+                log.warn("요청 한도 Redis 호출 실패, {}ms 동안 로컬 버킷 사용: {}", properties.getRedisRetryAfterMs(), e.getMessage());
+            }
+        }
+        return localBuckets.get(key, k -> new LocalBucket(capacity))
+                .tryAcquire(capacity, ratePerMs, System.currentTimeMillis());
+    }
+
+    private Decision acquireFromRedis(String key, int capacity, double ratePerMs) {
+        List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(KEY_PREFIX + key),
+                String.valueOf(capacity), String.valueOf(ratePerMs));
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("요청 한도 스크립트 결과가 올바르지 않습니다: " + result);
+        }
+        return new Decision(toLong(result.get(0)) == 1L, toLong(result.get(1)), toLong(result.get(2)), Backend.REDIS);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
+
+    /**
+     * @param retryAfterMs 거부된 경우 다음 토큰이 생길 때까지의 시간, 허용이면 0
+     */
+    public record Decision(boolean allowed, long remaining, long retryAfterMs, Backend backend) {
+    }
+
+    public enum Backend {
+        REDIS, LOCAL
+    }
+
+    private static final class LocalBucket {
+        private double tokens;
+        private long updatedAt;
+
+        private LocalBucket(int capacity) {
+            this.tokens = capacity;
+            this.updatedAt = System.currentTimeMillis();
+        }
+
+        private synchronized Decision tryAcquire(int capacity, double ratePerMs, long now) {
+            tokens = Math.min(capacity, tokens + Math.max(0, now - updatedAt) * ratePerMs);
+            updatedAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return new Decision(true, (long) tokens, 0, Backend.LOCAL);
+            }
+            return new Decision(false, 0, (long) Math.ceil((1 - tokens) / ratePerMs), Backend.LOCAL);
+        }
+    }
+}
@@ -8,11 +8,22 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table
+@Table(indexes = {
+        // 게시글의 최상위 댓글(parent_id IS NULL)과 댓글별 답글을 작성 순서대로 읽는 커서 목록
+        @Index(name = "idx_comment_post_parent_created_id", columnList = "post_id, parent_id, created_date, id"),
+        // 하위 트리 조회/하위 댓글 수/스레드 순서 정렬 (path 접두사 범위)
+        @Index(name = "idx_comment_post_path", columnList = "post_id, path")
+})
+@NamedEntityGraph(name = Comment.GRAPH_WITH_USER,
+        attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user"),
+        subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("blog")))
 @Getter
 @Setter
 public class Comment extends AbstractAuditingEntity<Long> {
 
+    // 목록 조회: 작성자 (User.blog는 지연 로딩되지 않으므로 함께 조인)
+    public static final String GRAPH_WITH_USER = "Comment.withUser";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -20,18 +31,22 @@ public class Comment extends AbstractAuditingEntity<Long> {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
     private Comment parent;
 
+    // 루트부터의 댓글 ID 경로 (CommentPath). 저장 직후 ID가 정해지면 채우며, 기존 댓글은 CommentPathBackfillService가 채운다.
+    @Column(length = 500)
+    private String path;
+
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Comment> replies = new ArrayList<>();
 
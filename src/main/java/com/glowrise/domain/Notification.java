@@ -10,6 +10,12 @@ import lombok.*;
         @Index(name = "idx_notification_post", columnList = "post_id"),
         @Index(name = "idx_notification_comment", columnList = "comment_id")
 })
+@NamedEntityGraph(name = Notification.GRAPH_WITH_POST,
+        attributeNodes = @NamedAttributeNode(value = "post", subgraph = "post"),
+        subgraphs = {
+                @NamedSubgraph(name = "post", attributeNodes = @NamedAttributeNode(value = "menu", subgraph = "menu")),
+                @NamedSubgraph(name = "menu", attributeNodes = @NamedAttributeNode("blog"))
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,6 +23,8 @@ import lombok.*;
 @AllArgsConstructor
 public class Notification extends AbstractAuditingEntity<Long> {
 
+    public static final String GRAPH_WITH_POST = "Notification.withPost"; // 목록 조회: 게시글의 메뉴/블로그 URL
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
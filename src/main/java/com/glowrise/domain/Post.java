@@ -1,22 +1,36 @@
 package com.glowrise.domain;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "post", indexes = {
-        @Index(name = "idx_post_title", columnList = "title")
+        @Index(name = "idx_post_title", columnList = "title"),
+        @Index(name = "idx_post_menu_modified_id", columnList = "menu_id, last_modified_date, id"), // 메뉴별 커서 목록
+        // 블로그 전체 커서 목록. 비정규화한 blog_id로 시작하므로 다른 블로그 행을 읽지 않고 menu 조인도 필요 없다.
+        @Index(name = "idx_post_blog_modified_id", columnList = "blog_id, last_modified_date, id"),
+        // 블로그 구분 없는 수정 시각 순 조회 (검색 색인 따라잡기 등)
+        @Index(name = "idx_post_modified_id", columnList = "last_modified_date, id")
 })
+@NamedEntityGraph(name = Post.GRAPH_DETAIL, attributeNodes = @NamedAttributeNode("files"))
+@NamedEntityGraph(name = Post.GRAPH_WITH_MENU_AND_BLOG,
+        attributeNodes = @NamedAttributeNode(value = "menu", subgraph = "menu"),
+        subgraphs = @NamedSubgraph(name = "menu", attributeNodes = @NamedAttributeNode("blog")))
 @Getter
-@ToString(exclude = {"comments", "menu"})
+@ToString(exclude = {"comments", "menu", "author", "files"})
 @Setter
 public class Post extends AbstractAuditingEntity<Long> {
 
+    public static final String GRAPH_DETAIL = "Post.detail"; // 상세 조회: 첨부 파일
+    public static final String GRAPH_WITH_MENU_AND_BLOG = "Post.withMenuAndBlog"; // 알림 등 메뉴/블로그 URL이 필요한 경우
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -27,11 +41,25 @@ public class Post extends AbstractAuditingEntity<Long> {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    @ManyToOne
+    @Column(length = 300)
+    private String snippet; // 목록 표시용 본문 요약 (HTML 제거 후 앞부분, 저장 시 계산)
+
+    @Column(columnDefinition = "TEXT")
+    private String plainText; // HTML을 제거한 본문 (저장 시 계산)
+
+    private Integer wordCount; // 본문 어절 수 (저장 시 계산)
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "menu_id", nullable = false)
     private Menu menu;
 
-    @ManyToOne
+    // menu.blog의 비정규화 사본. 블로그 목록 조회가 menu 조인 없이 idx_post_blog_modified_id를 타도록 둔다.
+    // setMenu에서만 바뀌며, 컬럼 추가 전 게시글은 PostBlogIdBackfillService가 채운다.
+    @Setter(AccessLevel.NONE)
+    @Column(name = "blog_id")
+    private Long blogId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User author;
 
@@ -43,4 +71,18 @@ public class Post extends AbstractAuditingEntity<Long> {
 
     private Long viewCount;
 
+    // 목록 표시용 집계 컬럼. 엔티티 UPDATE로 덮어쓰지 않도록 updatable = false로 두고, 증감은 PostRepository의 UPDATE 쿼리로만 한다.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long commentCount = 0L; // 삭제되지 않은 댓글 수 (답글 포함)
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long fileCount = 0L; // 게시글에 연결된 파일 수 (첨부 + 본문 이미지)
+
+    // 작성과 메뉴 이동 모두 이 경로로 메뉴를 바꾸므로 blogId가 항상 함께 맞춰진다.
+    public void setMenu(Menu menu) {
+        this.menu = menu;
+        this.blogId = menu != null && menu.getBlog() != null ? menu.getBlog().getId() : null;
+    }
 }
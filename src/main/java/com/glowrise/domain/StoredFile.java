@@ -26,7 +26,7 @@ public class StoredFile extends AbstractAuditingEntity<Long> {
     @Column(nullable = false)
     private Long fileSize;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
 }
\ No newline at end of file
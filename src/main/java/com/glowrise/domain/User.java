@@ -12,11 +12,14 @@ import lombok.*;
         @Index(name = "idx_user_nickName", columnList = "nickName"),
         @Index(name = "idx_user_email", columnList = "email")
 })
+@NamedEntityGraph(name = User.GRAPH_WITH_BLOG, attributeNodes = @NamedAttributeNode("blog"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class User extends AbstractAuditingEntity<Long> {
 
+    public static final String GRAPH_WITH_BLOG = "User.withBlog";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -35,7 +38,9 @@ public class User extends AbstractAuditingEntity<Long> {
     @Enumerated(EnumType.STRING)
     private SITE site;
 
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    // 연관관계 주인이 아닌 쪽이라 바이트코드 향상 없이는 LAZY여도 별도 select로 채워진다.
+    // 사용자 조회는 GRAPH_WITH_BLOG로 한 번에 조인한다.
+    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Blog blog;
 
     private String accessToken;
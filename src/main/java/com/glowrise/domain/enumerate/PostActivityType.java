@@ -0,0 +1,8 @@
+package com.glowrise.domain.enumerate;
+
+public enum PostActivityType {
+    POST_SAVED,       // 게시글 작성/수정
+    VIEW,             // 조회 (중복 제외)
+    COMMENT_CREATED,  // 댓글/답글 작성
+    COMMENT_DELETED,  // 댓글 삭제
+}
@@ -1,7 +1,24 @@
 package com.glowrise.domain.enumerate;
 
 public enum TimePeriod {
-    DAILY,
-    WEEKLY,
-    MONTHLY,
+    HOURLY(false),
+    DAILY(false),
+    WEEKLY(false),
+    MONTHLY(false),
+    LAST_1H(true),   // 최근 1시간 (이동 구간)
+    LAST_24H(true),  // 최근 24시간 (이동 구간)
+    LAST_7D(true);   // 최근 7일 (이동 구간)
+
+    private final boolean rolling;
+
+    TimePeriod(boolean rolling) {
+        this.rolling = rolling;
+    }
+
+    /**
+     * 현재 시각 기준으로 이어지는 이동 구간인지 여부 (false면 달력 기준 구간)
+     */
+    public boolean isRolling() {
+        return rolling;
+    }
 }
@@ -1,9 +1,9 @@
 package com.glowrise.repository;
 
 import com.glowrise.domain.Blog;
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,7 +14,11 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
     boolean existsByUrl(String url);
     Optional<Blog> findByUrl(String url);
 
-    @Query("SELECT m.blog FROM Menu m WHERE m.id = :menuId")
-    Optional<Blog> findByMenusId(@Param("menuId") Long menuId);
     boolean existsByUserId(Long userId);
+
+    @Query("SELECT b.user.id FROM Blog b WHERE b.id = :blogId")
+    Optional<Long> findUserIdById(@Param("blogId") Long blogId);
+
+    @Query("SELECT m.blog.user.id FROM Menu m WHERE m.id = :menuId")
+    Optional<Long> findUserIdByMenuId(@Param("menuId") Long menuId);
 }
@@ -1,15 +1,26 @@
 package com.glowrise.repository;
 
 import com.glowrise.domain.Comment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByParentId(Long parentId);
-
+    @EntityGraph(Comment.GRAPH_WITH_USER)
     List<Comment> findByPostIdAndParentIsNull(Long postId);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.path = :path WHERE c.id = :commentId")
+    int updatePath(@Param("commentId") Long commentId, @Param("path") String path);
+
+    @Query("SELECT c.user.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findUserIdById(@Param("commentId") Long commentId);
 }
 
@@ -1,6 +1,7 @@
 package com.glowrise.repository;
 
 import com.glowrise.domain.Notification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
+    @EntityGraph(Notification.GRAPH_WITH_POST)
     List<Notification> findByUserIdAndDeletedFalseAndIsReadFalseOrderByCreatedDateDesc(Long userId);
 
     Notification findByIdAndUserId(Long id, Long userId);
@@ -1,15 +1,16 @@
 package com.glowrise.repository;
 
 import com.glowrise.domain.Post;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -17,8 +18,45 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     List<Post> findTop10ByOrderByViewCountDesc();
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    // 상세 조회: 게시글과 첨부 파일을 한 번에 읽는다.
+    @EntityGraph(Post.GRAPH_DETAIL)
+    Optional<Post> findDetailById(Long id);
+
+    @EntityGraph(Post.GRAPH_WITH_MENU_AND_BLOG)
+    Optional<Post> findWithMenuAndBlogById(Long id);
+
+    // 권한 확인: 엔티티를 읽지 않고 작성자 ID만 조회한다.
+    @Query("SELECT p.author.id FROM Post p WHERE p.id = :postId")
+    Optional<Long> findAuthorIdById(@Param("postId") Long postId);
+
+    @Transactional
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
-    int incrementViewCount(@Param("postId") Long postId);
+    @Query("UPDATE Post p SET p.viewCount = COALESCE(p.viewCount, 0) + :delta WHERE p.id IN :postIds")
+    int addViewCounts(@Param("postIds") List<Long> postIds, @Param("delta") Long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount + :delta < 0 THEN 0 ELSE p.commentCount + :delta END WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.fileCount = CASE WHEN p.fileCount + :delta < 0 THEN 0 ELSE p.fileCount + :delta END WHERE p.id = :postId")
+    int addFileCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 집계 컬럼을 실제 댓글/파일 수로 다시 계산한다. (불일치 보정용)
+    @Modifying
+    @Query("UPDATE Post p SET " +
+            "p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post.id = p.id AND c.deleted = false), " +
+            "p.fileCount = (SELECT COUNT(f) FROM files f WHERE f.post.id = p.id) " +
+            "WHERE p.id IN :postIds")
+    int recalculateCounts(@Param("postIds") List<Long> postIds);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.plainText = :plainText, p.snippet = :snippet, p.wordCount = :wordCount WHERE p.id = :postId")
+    int updateText(@Param("postId") Long postId, @Param("plainText") String plainText,
+                   @Param("snippet") String snippet, @Param("wordCount") int wordCount);
+
+    // blog_id 컬럼 추가 전 게시글의 블로그를 메뉴에서 채운다.
+    @Modifying
+    @Query("UPDATE Post p SET p.blogId = (SELECT m.blog.id FROM Menu m WHERE m.id = p.menu.id) WHERE p.id IN :postIds")
+    int fillBlogIds(@Param("postIds") List<Long> postIds);
 }
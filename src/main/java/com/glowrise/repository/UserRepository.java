@@ -1,15 +1,30 @@
 package com.glowrise.repository;
 
 import com.glowrise.domain.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    @EntityGraph(User.GRAPH_WITH_BLOG)
     Optional<User> findByUsername(String username);
+
+    @EntityGraph(User.GRAPH_WITH_BLOG)
     Optional<User> findByEmail(String email);
 
+    @EntityGraph(User.GRAPH_WITH_BLOG)
     Optional<User> findByNickName(String nickname);
+
+    @Override
+    @EntityGraph(User.GRAPH_WITH_BLOG)
+    Optional<User> findById(Long id);
+
+    // 현재 사용자 ID 확인용. 엔티티(와 블로그)를 읽지 않는다.
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
 }
@@ -1,8 +1,5 @@
 package com.glowrise.service;
 
-import com.glowrise.domain.Blog;
-import com.glowrise.domain.Comment;
-import com.glowrise.domain.Post;
 import com.glowrise.repository.BlogRepository;
 import com.glowrise.repository.CommentRepository;
 import com.glowrise.repository.PostRepository;
@@ -24,24 +21,25 @@ public class AuthorizationService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
 
+    // 소유자 확인은 엔티티를 읽지 않고 소유자 ID만 조회한다.
     public boolean isBlogOwner(Long blogId) {
         Long currentUserId = securityUtil.getCurrentUserId().orElse(null);
         if (currentUserId == null) return false;
 
-        Blog blog = blogRepository.findById(blogId)
+        Long ownerId = blogRepository.findUserIdById(blogId)
                 .orElseThrow(() -> new EntityNotFoundException("블로그를 찾을 수 없습니다 (ID: " + blogId + ")"));
 
-        return blog.getUser() != null && Objects.equals(blog.getUser().getId(), currentUserId);
+        return Objects.equals(ownerId, currentUserId);
     }
 
     public boolean isBlogOwnerByMenuId(Long menuId) {
         Long currentUserId = securityUtil.getCurrentUserId().orElse(null);
         if (currentUserId == null) return false;
 
-        Blog blog = blogRepository.findByMenusId(menuId) // MenuRepository에 findBlogByMenuId 같은 메소드나 BlogRepo에 연관쿼리 필요
+        Long ownerId = blogRepository.findUserIdByMenuId(menuId)
                 .orElseThrow(() -> new EntityNotFoundException("메뉴에 해당하는 블로그를 찾을 수 없습니다 (Menu ID: " + menuId + ")"));
 
-        return blog.getUser() != null && Objects.equals(blog.getUser().getId(), currentUserId);
+        return Objects.equals(ownerId, currentUserId);
     }
 
 
@@ -49,19 +47,19 @@ public class AuthorizationService {
         Long currentUserId = securityUtil.getCurrentUserId().orElse(null);
         if (currentUserId == null) return false;
 
-        Post post = postRepository.findById(postId)
+        Long authorId = postRepository.findAuthorIdById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다 (ID: " + postId + ")"));
 
-        return post.getAuthor() != null && Objects.equals(post.getAuthor().getId(), currentUserId);
+        return Objects.equals(authorId, currentUserId);
     }
 
     public boolean isCommentOwner(Long commentId) {
         Long currentUserId = securityUtil.getCurrentUserId().orElse(null);
         if (currentUserId == null) return false;
 
-        Comment comment = commentRepository.findById(commentId)
+        Long authorId = commentRepository.findUserIdById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다 (ID: " + commentId + ")"));
 
-        return comment.getUser() != null && Objects.equals(comment.getUser().getId(), currentUserId);
+        return Objects.equals(authorId, currentUserId);
     }
-}
\ No newline at end of file
+}
@@ -5,10 +5,13 @@ import com.glowrise.domain.User;
 import com.glowrise.repository.BlogRepository;
 import com.glowrise.repository.UserRepository;
 import com.glowrise.service.dto.BlogDTO;
+import com.glowrise.service.event.BlogChangedEvent;
+import com.glowrise.service.event.MenuChangedEvent;
 import com.glowrise.service.mapper.BlogMapper;
 import com.glowrise.service.util.SecurityUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -24,6 +27,7 @@ public class BlogService {
     private final BlogMapper blogMapper;
     private final SecurityUtil securityUtil;
     private final UserRepository userRepository; // Keep for user.setBlog(null)
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public BlogDTO createBlog(BlogDTO dto, Authentication ignoredAuthentication) {
@@ -41,6 +45,7 @@ public class BlogService {
         user.setBlog(blog);
 
         Blog savedBlog = blogRepository.save(blog);
+        eventPublisher.publishEvent(new BlogChangedEvent(savedBlog.getId()));
         return blogMapper.toDto(savedBlog);
     }
 
@@ -56,6 +61,7 @@ public class BlogService {
         blogMapper.partialUpdate(existingBlog, dto);
 
         Blog updatedBlog = blogRepository.save(existingBlog);
+        eventPublisher.publishEvent(new BlogChangedEvent(updatedBlog.getId()));
         return blogMapper.toDto(updatedBlog);
     }
 
@@ -86,6 +92,8 @@ public class BlogService {
         }
 
         blogRepository.deleteById(blogId);
+        eventPublisher.publishEvent(new MenuChangedEvent(blogId));
+        eventPublisher.publishEvent(new BlogChangedEvent(blogId));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,110 @@
+package com.glowrise.service;
+
+import com.glowrise.domain.QComment;
+import com.glowrise.repository.CommentRepository;
+import com.glowrise.service.exception.CommentDepthExceededException;
+import com.glowrise.service.util.CommentPath;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로(path)가 비어 있는 기존 댓글을 채운다. 기동 직후 한 번 실행되며, 댓글을 ID 순으로 나눠 배치마다 별도 트랜잭션으로 처리한다.
+ * 부모는 항상 자식보다 먼저 저장되어 ID가 작으므로, ID 순으로 채우면 부모 경로는 이전 배치에서 이미 저장되었거나 같은 배치 안에 있다.
+ */
+@Service
+@Slf4j
+public class CommentPathBackfillService {
+
+    private final JPAQueryFactory queryFactory;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public CommentPathBackfillService(JPAQueryFactory queryFactory, CommentRepository commentRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${glowrise.comment.path-backfill-batch-size:500}") int batchSize) {
+        this.queryFactory = queryFactory;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0L;
+        int filled = 0;
+        int skipped = 0;
+        while (true) {
+            long fromId = lastId;
+            BatchResult result = transactionTemplate.execute(status -> backfillBatch(fromId));
+            if (result == null || result.lastId() == null) {
+                break;
+            }
+            lastId = result.lastId();
+            filled += result.filled();
+            skipped += result.skipped();
+        }
+        if (filled > 0) {
+            log.info("댓글 경로 채우기 완료 (댓글 수: {})", filled);
+        }
+        if (skipped > 0) {
+            log.warn("부모 경로가 없거나 최대 깊이를 넘어 경로를 채우지 못한 댓글 수: {}", skipped);
+        }
+    }
+
+    private BatchResult backfillBatch(long afterId) {
+        QComment comment = QComment.comment;
+        QComment parent = new QComment("parent");
+
+        List<Tuple> rows = queryFactory
+                .select(comment.id, parent.id, parent.path)
+                .from(comment)
+                .leftJoin(comment.parent, parent)
+                .where(comment.id.gt(afterId), comment.path.isNull())
+                .orderBy(comment.id.asc())
+                .limit(batchSize)
+                .fetch();
+        if (rows.isEmpty()) {
+            return new BatchResult(null, 0, 0);
+        }
+
+        // 이 배치에서 채운 경로 (같은 배치 안의 자식이 참조)
+        Map<Long, String> paths = new HashMap<>();
+        int skipped = 0;
+        for (Tuple row : rows) {
+            Long id = row.get(comment.id);
+            Long parentId = row.get(parent.id);
+            String parentPath = parentId == null ? null
+                    : row.get(parent.path) != null ? row.get(parent.path) : paths.get(parentId);
+            if (parentId != null && parentPath == null) {
+                skipped++;
+                continue;
+            }
+            String path;
+            try {
+                path = CommentPath.child(parentPath, id);
+            } catch (CommentDepthExceededException e) {
+                // 최대 깊이를 넘는 기존 답글은 경로 없이 둔다 (스레드 조회에서 빠짐)
+                skipped++;
+                continue;
+            }
+            commentRepository.updatePath(id, path);
+            paths.put(id, path);
+        }
+        return new BatchResult(rows.get(rows.size() - 1).get(comment.id), paths.size(), skipped);
+    }
+
+    private record BatchResult(Long lastId, int filled, int skipped) {
+    }
+}
@@ -3,22 +3,29 @@ package com.glowrise.service;
 import com.glowrise.domain.Comment;
 import com.glowrise.domain.Post;
 import com.glowrise.domain.User;
+import com.glowrise.domain.enumerate.PostActivityType;
 import com.glowrise.repository.CommentRepository;
 import com.glowrise.repository.PostRepository;
 import com.glowrise.service.dto.CommentDTO;
+import com.glowrise.service.dto.CommentDeltaDTO;
+import com.glowrise.service.dto.CursorSliceDTO;
 import com.glowrise.service.dto.NotificationEvent;
+import com.glowrise.service.event.CommentChangedEvent;
+import com.glowrise.service.event.PostActivityEvent;
+import com.glowrise.service.exception.CommentPathPendingException;
 import com.glowrise.service.mapper.CommentMapper;
+import com.glowrise.service.util.CommentPath;
+import com.glowrise.service.util.CommentThreadLoader;
 import com.glowrise.service.util.NotificationProducer;
 import com.glowrise.service.util.SecurityUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +36,8 @@ public class CommentService {
     private final PostRepository postRepository;
     private final SecurityUtil securityUtil;
     private final NotificationProducer notificationProducer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentThreadLoader commentThreadLoader;
 
     @Transactional
     public CommentDTO createComment(CommentDTO dto, Authentication ignoredAuthentication) {
@@ -42,12 +51,17 @@ public class CommentService {
         comment.setParent(null);
 
         Comment savedComment = commentRepository.save(comment);
+        savedComment.setPath(CommentPath.child(null, savedComment.getId()));
+        postRepository.addCommentCount(post.getId(), 1);
+        eventPublisher.publishEvent(new PostActivityEvent(post.getId(), PostActivityType.COMMENT_CREATED));
 
         if (!post.getAuthor().getId().equals(userId)) {
             sendCommentNotification(post.getAuthor().getId(), post.getId(), savedComment.getId());
         }
 
-        return mapCommentToDtoWithAuthor(savedComment);
+        CommentDTO created = mapCommentToDtoWithAuthor(savedComment);
+        publishDelta(CommentDeltaDTO.Type.CREATED, created);
+        return created;
     }
 
     @Transactional
@@ -60,6 +74,10 @@ public class CommentService {
         if (!parent.getPost().getId().equals(post.getId())) {
             throw new IllegalStateException("부모 댓글이 지정된 게시글에 속하지 않습니다.");
         }
+        // 저장한 뒤 경로를 만들다 실패하면 경로 없는 답글이 남으므로 저장 전에 깊이를 확인한다.
+        if (!CommentPath.canAddChild(parent.getPath())) {
+            throw CommentPath.depthExceeded();
+        }
 
         Comment reply = commentMapper.toEntity(dto);
         reply.setPost(post);
@@ -67,12 +85,20 @@ public class CommentService {
         reply.setParent(parent);
 
         Comment savedReply = commentRepository.save(reply);
+        // 부모 경로가 아직 없으면(경로 채우기 전 댓글) 비워 두고, 채우기 작업이 부모 다음에 이어서 채운다.
+        if (parent.getPath() != null) {
+            savedReply.setPath(CommentPath.child(parent.getPath(), savedReply.getId()));
+        }
+        postRepository.addCommentCount(post.getId(), 1);
+        eventPublisher.publishEvent(new PostActivityEvent(post.getId(), PostActivityType.COMMENT_CREATED));
 
         if (!parent.getUser().getId().equals(userId)) {
             sendReplyNotification(parent.getUser().getId(), post.getId(), savedReply.getId(), parentId);
         }
 
-        return mapCommentToDtoWithAuthor(savedReply);
+        CommentDTO created = mapCommentToDtoWithAuthor(savedReply);
+        publishDelta(CommentDeltaDTO.Type.CREATED, created);
+        return created;
     }
 
     @Transactional
@@ -87,7 +113,9 @@ public class CommentService {
         commentMapper.partialUpdate(comment, dto);
         Comment updatedComment = commentRepository.save(comment);
 
-        return mapCommentToDtoWithAuthor(updatedComment);
+        CommentDTO updated = mapCommentToDtoWithAuthor(updatedComment);
+        publishDelta(CommentDeltaDTO.Type.UPDATED, updated);
+        return updated;
     }
 
     @Transactional
@@ -98,27 +126,42 @@ public class CommentService {
         if (!comment.isDeleted()) {
             comment.markAsDeleted();
             commentRepository.save(comment);
+            postRepository.addCommentCount(comment.getPost().getId(), -1);
+            eventPublisher.publishEvent(new PostActivityEvent(comment.getPost().getId(), PostActivityType.COMMENT_DELETED));
+            Long parentId = comment.getParent() != null ? comment.getParent().getId() : null;
+            eventPublisher.publishEvent(new CommentChangedEvent(comment.getPost().getId(),
+                    new CommentDeltaDTO(CommentDeltaDTO.Type.DELETED, commentId, parentId, null)));
         }
     }
 
+    /**
+     * 최상위 댓글을 작성 순서대로 size개씩 반환한다. 각 댓글에는 답글 수와 앞쪽 답글 몇 개만 담는다.
+     */
     @Transactional(readOnly = true)
-    public List<CommentDTO> getCommentsByPostId(Long postId) {
+    public CursorSliceDTO<CommentDTO> getCommentsByPostId(Long postId, String cursor, int size) {
         if (postId == null) {
             throw new IllegalArgumentException("게시글 ID는 null일 수 없습니다.");
         }
-        List<Comment> rootComments = commentRepository.findByPostIdAndParentIsNull(postId);
-        return rootComments.stream()
-                .map(this::mapCommentToDtoWithAuthorAndReplies)
-                .collect(Collectors.toList());
+        return commentThreadLoader.loadRoots(postId, cursor, size);
     }
 
     @Transactional(readOnly = true)
-    public List<CommentDTO> getRepliesByCommentId(Long parentCommentId) {
+    public CursorSliceDTO<CommentDTO> getRepliesByCommentId(Long parentCommentId, String cursor, int size) {
         Comment parent = findCommentByIdOrThrow(parentCommentId);
-        List<Comment> replies = commentRepository.findByParentId(parentCommentId);
-        return replies.stream()
-                .map(this::mapCommentToDtoWithAuthor)
-                .collect(Collectors.toList());
+        return commentThreadLoader.loadReplies(parent.getPost().getId(), parentCommentId, cursor, size);
+    }
+
+    /**
+     * 댓글과 그 아래 모든 답글을 스레드 순서(부모 다음 자식, 형제는 작성 순)로 반환한다.
+     * 첫 페이지의 맨 앞은 요청한 댓글이며 전체 하위 댓글 수(descendantCount)를 담는다.
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceDTO<CommentDTO> getThread(Long commentId, String cursor, int size) {
+        Comment root = findCommentByIdOrThrow(commentId);
+        if (root.getPath() == null) {
+            throw new CommentPathPendingException("댓글 경로를 채우는 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return commentThreadLoader.loadThread(root.getPost().getId(), root.getPath(), cursor, size);
     }
 
     @Transactional(readOnly = true)
@@ -147,22 +190,17 @@ public class CommentService {
             dto.setAuthorName("알 수 없는 사용자");
             dto.setUserId(null);
         }
+        dto.setCreatedAt(comment.getCreatedDate());
         dto.setUpdatedAt(comment.getLastModifiedDate());
         dto.setPostId(comment.getPost() != null ? comment.getPost().getId() : null);
         dto.setParentId(comment.getParent() != null ? comment.getParent().getId() : null);
         return dto;
     }
 
-    private CommentDTO mapCommentToDtoWithAuthorAndReplies(Comment comment) {
-        CommentDTO dto = mapCommentToDtoWithAuthor(comment);
-        if (comment.getReplies() != null && !comment.getReplies().isEmpty()) {
-            dto.setReplies(comment.getReplies().stream()
-                    .map(this::mapCommentToDtoWithAuthorAndReplies)
-                    .collect(Collectors.toList()));
-        } else {
-            dto.setReplies(List.of());
-        }
-        return dto;
+    // 커밋 이후 게시글 댓글 채널로 전송 (CommentStreamService)
+    private void publishDelta(CommentDeltaDTO.Type type, CommentDTO comment) {
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getPostId(),
+                new CommentDeltaDTO(type, comment.getId(), comment.getParentId(), comment)));
     }
 
     private void sendCommentNotification(Long recipientUserId, Long postId, Long commentId) {
@@ -0,0 +1,109 @@
+package com.glowrise.service;
+
+import com.glowrise.service.dto.CommentDeltaBatchDTO;
+import com.glowrise.service.dto.CommentDeltaDTO;
+import com.glowrise.service.dto.CommentDeltaDTO.Type;
+import com.glowrise.service.event.CommentChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 커밋된 댓글 변경을 게시글별 채널(/topic/posts/{postId}/comments)로 보낸다.
+ * 변경은 게시글별로 모아 두었다가 flush 주기마다 한 메시지로 보내며, 같은 댓글의 변경은 최신 상태 하나로 합친다.
+ * 연속 작성이 몰리는 게시글에서도 메시지 수는 주기당 하나(max-batch-size 초과 시 나눔)로 유지된다.
+ * 브로커가 인스턴스 내장(simple broker)이므로 이 인스턴스에 연결된 구독자에게만 전달된다.
+ */
+@Service
+@Slf4j
+public class CommentStreamService {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int maxBatchSize;
+    // 게시글 ID -> 댓글 ID별 합쳐진 변경 (처음 변경된 순서 유지). 맵 자체는 compute/remove 안에서만 다룬다.
+    private final Map<Long, LinkedHashMap<Long, CommentDeltaDTO>> pending = new ConcurrentHashMap<>();
+    private final Counter sentCounter;
+    private final Counter coalescedCounter;
+
+    public CommentStreamService(SimpMessagingTemplate messagingTemplate, MeterRegistry meterRegistry,
+                                @Value("${glowrise.comment.stream.max-batch-size:50}") int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("댓글 변경 묶음 크기는 1 이상이어야 합니다: " + maxBatchSize);
+        }
+        this.messagingTemplate = messagingTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.sentCounter = Counter.builder("glowrise.comment.stream.messages")
+                .description("게시글 댓글 채널로 보낸 메시지 수")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("glowrise.comment.stream.coalesced")
+                .description("같은 댓글의 이전 변경과 합쳐진 변경 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        CommentDeltaDTO delta = event.getDelta();
+        pending.compute(event.getPostId(), (postId, deltas) -> {
+            LinkedHashMap<Long, CommentDeltaDTO> merged = deltas != null ? deltas : new LinkedHashMap<>();
+            CommentDeltaDTO previous = merged.get(delta.getCommentId());
+            if (previous != null) {
+                coalescedCounter.increment();
+            }
+            merged.put(delta.getCommentId(), merge(previous, delta));
+            return merged;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${glowrise.comment.stream.flush-interval-ms:200}")
+    public void flush() {
+        for (Long postId : pending.keySet()) {
+            LinkedHashMap<Long, CommentDeltaDTO> deltas = pending.remove(postId);
+            if (deltas == null || deltas.isEmpty()) {
+                continue;
+            }
+            List<CommentDeltaDTO> ordered = new ArrayList<>(deltas.values());
+            for (int from = 0; from < ordered.size(); from += maxBatchSize) {
+                List<CommentDeltaDTO> chunk = ordered.subList(from, Math.min(from + maxBatchSize, ordered.size()));
+                send(postId, new CommentDeltaBatchDTO(postId, new ArrayList<>(chunk)));
+            }
+        }
+    }
+
+    private void send(Long postId, CommentDeltaBatchDTO batch) {
+        try {
+            messagingTemplate.convertAndSend("/topic/posts/" + postId + "/comments", batch);
+            sentCounter.increment();
+        } catch (MessagingException e) {
+            // 놓친 변경은 클라이언트가 다시 연결하며 목록을 새로 읽어 맞춘다.
+            log.warn("댓글 변경 전송 실패 (postId: {}, 변경 수: {}): {}", postId, batch.getDeltas().size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 작성 후 수정은 최신 내용의 작성으로, 삭제 이후는 삭제로 합친다.
+     */
+    private static CommentDeltaDTO merge(CommentDeltaDTO previous, CommentDeltaDTO next) {
+        if (previous == null) {
+            return next;
+        }
+        if (previous.getType() == Type.DELETED || next.getType() == Type.DELETED) {
+            return new CommentDeltaDTO(Type.DELETED, next.getCommentId(), next.getParentId(), null);
+        }
+        if (previous.getType() == Type.CREATED) {
+            return new CommentDeltaDTO(Type.CREATED, next.getCommentId(), next.getParentId(), next.getComment());
+        }
+        return next;
+    }
+}
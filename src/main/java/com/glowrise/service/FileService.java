@@ -3,12 +3,15 @@ package com.glowrise.service;
 import com.glowrise.domain.Post;
 import com.glowrise.domain.StoredFile;
 import com.glowrise.repository.FileRepository;
+import com.glowrise.repository.PostRepository;
 import com.glowrise.service.dto.FileDTO;
+import com.glowrise.service.event.PostChangedEvent;
 import com.glowrise.service.mapper.FileMapper;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.dao.DataAccessException;
@@ -37,6 +40,8 @@ public class FileService {
 
     private final FileRepository fileRepository;
     private final FileMapper fileMapper;
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${file.upload-dir}")
     private String uploadDirPath;
@@ -168,11 +173,13 @@ public class FileService {
                 log.warn("디스크에서 파일을 찾을 수 없거나 이미 삭제됨: {}", filePath);
             }
             fileRepository.delete(file);
+            decrementFileCount(file);
             log.info("파일 데이터베이스 항목 삭제됨 (ID: {})", fileId);
         } catch (IOException e) {
             log.error("디스크에서 파일 삭제 실패: {}", file.getFilePath(), e);
             try {
                 fileRepository.delete(file);
+                decrementFileCount(file);
                 log.warn("디스크 파일 삭제 실패했으나, DB 레코드 삭제 성공 (ID: {})", fileId);
             } catch (DataAccessException dae) {
                 log.error("디스크 파일 삭제 실패 후 DB 레코드 삭제 중 오류 발생 (ID: {}): {}", fileId, dae.getMessage());
@@ -227,6 +234,9 @@ public class FileService {
 
                 savedEntities.add(fileRepository.save(fileEntity));
             }
+            if (!savedEntities.isEmpty()) {
+                changeFileCount(postId, savedEntities.size());
+            }
             log.info("게시글 {}에 {}개의 파일 업로드 성공", postId, savedEntities.size());
             return fileMapper.toDto(savedEntities);
 
@@ -324,6 +334,7 @@ public class FileService {
         }
 
         fileRepository.deleteAll(filesToDelete);
+        changeFileCount(postId, -filesToDelete.size());
         log.info("게시글 ID {}에 대한 {}개의 파일 데이터베이스 항목 삭제됨", postId, filesToDelete.size());
 
         if (!failedDeletions.isEmpty()) {
@@ -332,6 +343,30 @@ public class FileService {
     }
 
 
+    /**
+     * 게시글 작성 전에 업로드된 본문 이미지를 게시글에 연결한다. 이미 다른 게시글에 연결된 파일은 건너뛴다.
+     *
+     * @return 새로 연결된 파일 수
+     */
+    @Transactional
+    public int attachFilesToPost(List<Long> fileIds, Post post) {
+        if (fileIds == null || fileIds.isEmpty()) {
+            return 0;
+        }
+        int attachedCount = 0;
+        for (StoredFile file : fileRepository.findAllById(fileIds)) {
+            if (file.getPost() == null) {
+                file.setPost(post);
+                fileRepository.save(file);
+                attachedCount++;
+            }
+        }
+        if (attachedCount > 0) {
+            changeFileCount(post.getId(), attachedCount);
+        }
+        return attachedCount;
+    }
+
     @Transactional(readOnly = true)
     public List<FileDTO> getFilesByPostId(Long postId) {
         List<StoredFile> files = fileRepository.findByPostId(postId);
@@ -383,6 +418,18 @@ public class FileService {
         log.info("고아 파일 정리 작업 완료.");
     }
 
+    private void decrementFileCount(StoredFile file) {
+        if (file.getPost() != null) {
+            changeFileCount(file.getPost().getId(), -1);
+        }
+    }
+
+    // 첨부 파일 목록이 바뀐 게시글은 상세 캐시에서도 제거되도록 이벤트를 함께 발행한다.
+    private void changeFileCount(Long postId, long delta) {
+        postRepository.addFileCount(postId, delta);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+    }
+
     private boolean isImageFile(String contentType) {
         return contentType != null && contentType.startsWith("image/");
     }
@@ -0,0 +1,89 @@
+package com.glowrise.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.glowrise.service.exception.ContentTooLargeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.owasp.html.PolicyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 게시글 본문 HTML 정화(sanitize).
+ * 자동 저장처럼 같은 본문이 반복해서 들어오는 경우가 많아, 입력의 SHA-256 해시를 키로 정화 결과를 캐시한다.
+ * 정책(PolicyFactory)은 애플리케이션에 하나뿐이므로 해시만으로 결과가 결정된다.
+ */
+@Service
+public class HtmlSanitizationService {
+
+    private final PolicyFactory htmlPolicyFactory;
+    private final Cache<String, String> sanitizedCache;
+    private final int maxInputLength;
+    private final Timer sanitizeTimer;
+    private final DistributionSummary inputLengthSummary;
+    private final Counter rejectedCounter;
+
+    public HtmlSanitizationService(PolicyFactory htmlPolicyFactory, MeterRegistry meterRegistry,
+                                   @Value("${glowrise.sanitizer.max-input-length:200000}") int maxInputLength,
+                                   @Value("${glowrise.sanitizer.cache-max-weight-bytes:33554432}") long cacheMaxWeightBytes,
+                                   @Value("${glowrise.sanitizer.cache-ttl-seconds:3600}") long cacheTtlSeconds) {
+        this.htmlPolicyFactory = htmlPolicyFactory;
+        this.maxInputLength = maxInputLength;
+        // 본문 길이(UTF-16 기준 글자당 2바이트) 합으로 제한해 긴 본문 몇 개가 캐시를 차지하지 않도록 한다.
+        this.sanitizedCache = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxWeightBytes)
+                .weigher((String hash, String sanitized) -> 128 + sanitized.length() * 2)
+                .expireAfterAccess(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sanitizedCache, "htmlSanitization");
+        this.sanitizeTimer = Timer.builder("glowrise.sanitizer.duration")
+                .description("캐시 미적중으로 HTML 정화를 실행한 시간")
+                .register(meterRegistry);
+        this.inputLengthSummary = DistributionSummary.builder("glowrise.sanitizer.input.length")
+                .description("정화 요청된 본문 길이 (글자 수)")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("glowrise.sanitizer.rejected")
+                .tag("reason", "too_large")
+                .description("최대 길이를 넘어 파싱 전에 거부된 본문 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * HTML을 정책에 맞게 정화한다. 최대 길이를 넘는 입력은 파싱하지 않고 거부한다.
+     *
+     * @throws ContentTooLargeException 본문이 최대 길이를 넘는 경우 (413 응답)
+     */
+    public String sanitize(String html) {
+        if (!StringUtils.hasLength(html)) {
+            return "";
+        }
+        inputLengthSummary.record(html.length());
+        if (html.length() > maxInputLength) {
+            rejectedCounter.increment();
+            throw new ContentTooLargeException("게시글 본문이 너무 깁니다. (최대 " + maxInputLength + "자, 입력 " + html.length() + "자)");
+        }
+        return sanitizedCache.get(hash(html), key -> sanitizeTimer.record(() -> htmlPolicyFactory.sanitize(html)));
+    }
+
+    private static String hash(String html) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(html.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현은 SHA-256을 제공해야 한다.
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
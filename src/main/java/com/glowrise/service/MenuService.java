@@ -5,10 +5,13 @@ import com.glowrise.domain.Menu;
 import com.glowrise.repository.BlogRepository;
 import com.glowrise.repository.MenuRepository;
 import com.glowrise.service.dto.MenuDTO;
+import com.glowrise.service.event.MenuChangedEvent;
 import com.glowrise.service.mapper.MenuMapper;
+import com.glowrise.service.util.MenuTreeCache;
 import com.glowrise.service.util.SecurityUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -17,7 +20,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +29,8 @@ public class MenuService {
     private final MenuMapper menuMapper;
     private final BlogRepository blogRepository;
     private final SecurityUtil securityUtil; // Added
+    private final MenuTreeCache menuTreeCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @PreAuthorize("@authorizationService.isBlogOwner(#dto.blogId)")
@@ -50,6 +54,7 @@ public class MenuService {
         }
 
         Menu savedMenu = menuRepository.save(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent(blog.getId()));
         return menuMapper.toDto(savedMenu);
     }
 
@@ -75,6 +80,7 @@ public class MenuService {
             }
             menu.setParent(parent);
         }
+        eventPublisher.publishEvent(new MenuChangedEvent(blogId));
     }
 
     @Transactional
@@ -104,6 +110,7 @@ public class MenuService {
         }
 
         Menu updatedMenu = menuRepository.save(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent(updatedMenu.getBlog().getId()));
         return menuMapper.toDto(updatedMenu);
     }
 
@@ -112,27 +119,18 @@ public class MenuService {
     public void deleteMenu(Long menuId, Authentication ignoredAuthentication) {
         Menu menu = findMenuByIdOrThrow(menuId);
         menuRepository.delete(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent(menu.getBlog().getId()));
     }
 
-    @Transactional(readOnly = true)
     public List<MenuDTO> getMenusByBlogId(Long blogId) {
-        List<Menu> menus = menuRepository.findByBlogIdOrderByOrderIndexAsc(blogId);
-        // Consider using MenuMapper if it maps all necessary fields including subMenuIds
         List<MenuDTO> menuDtos = new ArrayList<>();
-        for (Menu menuEntity : menus) {
+        for (MenuTreeCache.MenuNode node : menuTreeCache.getMenus(blogId)) {
             MenuDTO dto = new MenuDTO();
-            dto.setId(menuEntity.getId());
-            dto.setName(menuEntity.getName());
-            dto.setOrderIndex(menuEntity.getOrderIndex());
-            dto.setParentId(menuEntity.getParent() != null ? menuEntity.getParent().getId() : null);
-
-            if (menuEntity.getSubMenus() != null && !menuEntity.getSubMenus().isEmpty()) {
-                dto.setSubMenuIds(menuEntity.getSubMenus().stream()
-                        .map(Menu::getId)
-                        .collect(Collectors.toList()));
-            } else {
-                dto.setSubMenuIds(new ArrayList<>());
-            }
+            dto.setId(node.id());
+            dto.setName(node.name());
+            dto.setOrderIndex(node.orderIndex());
+            dto.setParentId(node.parentId());
+            dto.setSubMenuIds(new ArrayList<>(node.childIds()));
             menuDtos.add(dto);
         }
         return menuDtos;
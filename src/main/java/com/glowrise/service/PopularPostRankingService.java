@@ -0,0 +1,380 @@
+package com.glowrise.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.glowrise.domain.QPost;
+import com.glowrise.domain.enumerate.TimePeriod;
+import com.glowrise.service.event.PostActivityEvent;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 기간별 인기 게시글 순위를 Redis Sorted Set으로 관리한다.
+ * 점수 = 조회수 * 3 + 댓글 수 * 5 이며, 해당 기간에 작성/수정된 게시글만 순위에 포함된다.
+ * 키는 기간 시작일 단위로 나뉘므로 기간이 바뀌면 새 키로 자연스럽게 넘어가고, 이전 키는 TTL로 만료된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PopularPostRankingService {
+
+    private static final String RANKING_KEY_FORMAT = "popular:%s:%s";
+    private static final String BUILT_MARKER_SUFFIX = ":built";
+    private static final String REBUILD_TEMP_SUFFIX = ":rebuilding";
+    private static final String REBUILD_LOCK_SUFFIX = ":rebuild-lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5); // 재구성 중 인스턴스가 죽어도 잠금이 풀리도록
+    private static final Duration FALLBACK_TTL = Duration.ofSeconds(30);
+    private static final int FALLBACK_RANKING_SIZE = 1000;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final long VIEW_SCORE = 3L;
+    private static final long COMMENT_SCORE = 5L;
+    private static final DateTimeFormatter HOUR_KEY_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH");
+
+    // 이미 순위에 포함된 게시글만 점수를 올린다 (ZADD XX INCR 과 동일, 여러 기간 키를 한 번에 처리)
+    // KEYS: 기간별 순위 키 / ARGV[1]: 게시글 ID, ARGV[2]: 증감 점수
+    private static final RedisScript<Long> INCREMENT_IF_RANKED_SCRIPT = new DefaultRedisScript<>(
+            "local updated = 0 " +
+                    "for _, key in ipairs(KEYS) do " +
+                    "  if redis.call('ZSCORE', key, ARGV[1]) then " +
+                    "    redis.call('ZINCRBY', key, ARGV[2], ARGV[1]) " +
+                    "    updated = updated + 1 " +
+                    "  end " +
+                    "end " +
+                    "return updated",
+            Long.class);
+
+    // 재구성한 임시 키를 현재 키로 원자적으로 교체한다. DB 점수를 읽은 뒤 현재 키에 들어온 ZINCRBY/추가분을 잃지 않도록
+    // 현재 키를 AGGREGATE MAX로 합친 뒤 RENAME한다 (현재 키의 점수는 DB 점수를 읽은 시점 이후 증가분을 포함하므로 더 크다).
+    // KEYS[1]: 임시 키, KEYS[2]: 현재 키 / ARGV[1]: TTL(초) / 반환: 교체 후 순위의 게시글 수
+    private static final RedisScript<Long> SWAP_REBUILT_SCRIPT = new DefaultRedisScript<>(
+            "local size = redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[2], 'AGGREGATE', 'MAX') " +
+                    "if size == 0 then " +
+                    "  redis.call('DEL', KEYS[2]) " +
+                    "  return 0 " +
+                    "end " +
+                    "redis.call('RENAME', KEYS[1], KEYS[2]) " +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+                    "return size",
+            Long.class);
+
+    private static final List<TimePeriod> CALENDAR_PERIODS = Arrays.stream(TimePeriod.values())
+            .filter(period -> !period.isRolling())
+            .toList();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JPAQueryFactory queryFactory;
+    private final ViewCountService viewCountService;
+    // Redis 장애 중 DB 집계 결과. 같은 기간의 동시 요청은 한 번의 집계를 기다려 함께 쓴다.
+    private final Cache<TimePeriod, List<Long>> fallbackRankings = Caffeine.newBuilder()
+            .expireAfterWrite(FALLBACK_TTL)
+            .build();
+    // 기간 전환 직후의 재구성을 요청 스레드 밖에서 실행한다. 기간별 SETNX 잠금이 있어 대기 작업은 기간 수를 넘지 않는다.
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "popular-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 현재 기간의 상위 게시글 ID를 점수 내림차순으로 반환한다.
+     * 순위가 아직 만들어지지 않았다면(완료 표시가 없으면) 잠금을 얻은 요청 하나가 재구성을 백그라운드에 맡기고,
+     * 완료 표시가 생길 때까지는 모든 요청이 비어 있거나 채워지는 중인 현재 키 대신 DB 집계 결과를 반환한다.
+     * Redis에 접근할 수 없을 때도 같은 DB 집계 결과를 사용하며, 이 결과는 FALLBACK_TTL 동안 캐시한다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> getTopPostIds(TimePeriod period, int limit) {
+        checkCalendarPeriod(period);
+        String key = currentKey(period);
+        try {
+            if (!isBuilt(key)) {
+                rebuildInBackground(period);
+                return fallbackTopPostIds(period, limit);
+            }
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(key, 0, limit - 1);
+            if (members == null) {
+                return new ArrayList<>();
+            }
+            return members.stream().map(Long::valueOf).collect(Collectors.toList());
+        } catch (DataAccessException e) {
+            log.warn("인기 게시글 순위를 Redis에서 조회하지 못해 DB 집계로 대체합니다. (period: {}): {}", period, e.getMessage());
+            return fallbackTopPostIds(period, limit);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 순위에서 더 이상 존재하지 않는 게시글을 제거한다.
+     */
+    public void removeFromRanking(TimePeriod period, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        Object[] members = postIds.stream().map(String::valueOf).toArray();
+        redisTemplate.opsForZSet().remove(currentKey(period), members);
+    }
+
+    /**
+     * 현재 기간의 순위를 DB 기준으로 다시 만든다. (복구용)
+     * 임시 키에 채운 뒤 RENAME으로 교체하므로 재구성 중에도 기존 순위가 조회된다.
+     * 교체 직전에 현재 키를 점수가 큰 쪽으로 합치므로 재구성 중 들어온 조회/댓글 증가분과 새 글은 남는다.
+     * 대신 현재 키의 점수가 DB보다 크게 어긋나 있었다면(감소분 누락 등) 그 점수는 내려가지 않는다.
+     *
+     * @return 순위에 포함된 게시글 수
+     */
+    @Transactional(readOnly = true)
+    public int rebuild(TimePeriod period) {
+        checkCalendarPeriod(period);
+        String key = currentKey(period);
+        String tempKey = key + REBUILD_TEMP_SUFFIX;
+        Map<Long, Long> scores = calculateScores(period);
+
+        redisTemplate.delete(tempKey);
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(scores.entrySet());
+        for (int from = 0; from < entries.size(); from += REBUILD_BATCH_SIZE) {
+            List<Map.Entry<Long, Long>> batch = entries.subList(from, Math.min(from + REBUILD_BATCH_SIZE, entries.size()));
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    batch.forEach(entry -> ops.opsForZSet().add(tempKey, String.valueOf(entry.getKey()), entry.getValue()));
+                    return null;
+                }
+            });
+        }
+
+        Duration ttl = retention(period);
+        Long ranked = redisTemplate.execute(SWAP_REBUILT_SCRIPT, List.of(tempKey, key), String.valueOf(ttl.toSeconds()));
+        redisTemplate.opsForValue().set(key + BUILT_MARKER_SUFFIX, "1", ttl.toSeconds(), TimeUnit.SECONDS);
+        int rankedCount = ranked != null ? ranked.intValue() : 0;
+        log.info("인기 게시글 순위 재구성 완료 (period: {}, 게시글 수: {})", period, rankedCount);
+        return rankedCount;
+    }
+
+    /**
+     * 기간이 바뀐 직후 새 기간의 순위 키를 준비한다. (매시 정각 직후 실행, 이미 준비된 기간은 건너뜀)
+     */
+    @Scheduled(cron = "${glowrise.popular.rollover-cron:5 0 * * * *}")
+    @Transactional(readOnly = true)
+    public void rollOver() {
+        for (TimePeriod period : CALENDAR_PERIODS) {
+            try {
+                rebuildIfMissing(period);
+            } catch (DataAccessException e) {
+                log.error("인기 게시글 순위 기간 전환 실패 (period: {})", period, e);
+            }
+        }
+    }
+
+    // 기간 전환 직후 여러 요청/인스턴스가 동시에 재구성하지 않도록 SETNX 잠금을 얻은 쪽만 재구성한다.
+    private void rebuildIfMissing(TimePeriod period) {
+        String key = currentKey(period);
+        if (isBuilt(key) || !tryLockRebuild(key)) {
+            return;
+        }
+        try {
+            rebuildUnlessBuilt(period, key);
+        } finally {
+            redisTemplate.delete(key + REBUILD_LOCK_SUFFIX);
+        }
+    }
+
+    // 요청 스레드에서는 잠금만 잡고, 재구성은 rebuildExecutor에서 실행한 뒤 잠금을 푼다.
+    private void rebuildInBackground(TimePeriod period) {
+        String key = currentKey(period);
+        if (!tryLockRebuild(key)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuildUnlessBuilt(period, key);
+                } catch (RuntimeException e) {
+                    log.error("인기 게시글 순위 재구성 실패 (period: {})", period, e);
+                } finally {
+                    redisTemplate.delete(key + REBUILD_LOCK_SUFFIX);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            redisTemplate.delete(key + REBUILD_LOCK_SUFFIX);
+        }
+    }
+
+    private boolean tryLockRebuild(String key) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key + REBUILD_LOCK_SUFFIX, "1", REBUILD_LOCK_TTL));
+    }
+
+    // 잠금을 얻기 직전에 다른 쪽이 재구성을 마쳤을 수 있다.
+    private void rebuildUnlessBuilt(TimePeriod period, String key) {
+        if (!isBuilt(key)) {
+            rebuild(period);
+        }
+    }
+
+    private boolean isBuilt(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key + BUILT_MARKER_SUFFIX));
+    }
+
+    private List<Long> fallbackTopPostIds(TimePeriod period, int limit) {
+        List<Long> ranking = fallbackRankings.get(period, this::rankFromDatabase);
+        return new ArrayList<>(ranking.subList(0, Math.min(limit, ranking.size())));
+    }
+
+    private List<Long> rankFromDatabase(TimePeriod period) {
+        return calculateScores(period).entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(FALLBACK_RANKING_SIZE)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        try {
+            switch (event.getType()) {
+                case POST_SAVED -> addSavedPost(event.getPostId());
+                case VIEW -> incrementIfRanked(event.getPostId(), VIEW_SCORE);
+                case COMMENT_CREATED -> incrementIfRanked(event.getPostId(), COMMENT_SCORE);
+                case COMMENT_DELETED -> incrementIfRanked(event.getPostId(), -COMMENT_SCORE);
+            }
+        } catch (DataAccessException e) {
+            // 순위 반영 실패가 본 요청에 영향을 주지 않도록 한다. 누락분은 재구성으로 복구한다.
+            log.warn("인기 게시글 순위 반영 실패 ({})", event, e);
+        }
+    }
+
+    private void incrementIfRanked(Long postId, long delta) {
+        List<String> keys = new ArrayList<>();
+        for (TimePeriod period : CALENDAR_PERIODS) {
+            keys.add(currentKey(period));
+        }
+        redisTemplate.execute(INCREMENT_IF_RANKED_SCRIPT, keys, String.valueOf(postId), String.valueOf(delta));
+    }
+
+    // 작성/수정된 게시글은 모든 현재 기간에 해당하므로, 아직 순위에 없다면 현재 점수로 추가한다.
+    private void addSavedPost(Long postId) {
+        Long score = calculateScore(postId);
+        if (score == null) {
+            return;
+        }
+        for (TimePeriod period : CALENDAR_PERIODS) {
+            String key = currentKey(period);
+            redisTemplate.opsForZSet().addIfAbsent(key, String.valueOf(postId), score);
+            redisTemplate.expire(key, retention(period).toSeconds(), TimeUnit.SECONDS);
+        }
+    }
+
+    private Long calculateScore(Long postId) {
+        QPost post = QPost.post;
+
+        Tuple row = queryFactory
+                .select(post.viewCount.coalesce(0L), post.commentCount)
+                .from(post)
+                .where(post.id.eq(postId))
+                .fetchOne();
+        if (row == null) {
+            return null;
+        }
+        long viewCount = row.get(0, Long.class) + viewCountService.getPendingCount(postId);
+        return viewCount * VIEW_SCORE + row.get(1, Long.class) * COMMENT_SCORE;
+    }
+
+    private Map<Long, Long> calculateScores(TimePeriod period) {
+        QPost post = QPost.post;
+
+        LocalDateTime startDateTime = calculateStartDateTime(period);
+        BooleanBuilder whereClause = new BooleanBuilder();
+        whereClause.and(post.lastModifiedDate.goe(startDateTime));
+        if (period == TimePeriod.HOURLY) {
+            whereClause.and(post.lastModifiedDate.lt(startDateTime.plusHours(1)));
+        } else if (period == TimePeriod.DAILY) {
+            whereClause.and(post.lastModifiedDate.lt(startDateTime.plusDays(1)));
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(post.id, post.viewCount.coalesce(0L), post.commentCount)
+                .from(post)
+                .where(whereClause)
+                .fetch();
+
+        Map<Long, Long> scores = new HashMap<>();
+        for (Tuple row : rows) {
+            scores.put(row.get(post.id), row.get(1, Long.class) * VIEW_SCORE + row.get(2, Long.class) * COMMENT_SCORE);
+        }
+        return scores;
+    }
+
+    private void checkCalendarPeriod(TimePeriod period) {
+        if (period.isRolling()) {
+            throw new IllegalArgumentException("이동 구간은 인기 게시글 순위 대상이 아닙니다: " + period);
+        }
+    }
+
+    private String currentKey(TimePeriod period) {
+        LocalDateTime startDateTime = calculateStartDateTime(period);
+        String periodStart = period == TimePeriod.HOURLY
+                ? startDateTime.format(HOUR_KEY_FORMATTER)
+                : startDateTime.toLocalDate().toString();
+        return String.format(RANKING_KEY_FORMAT, period.name(), periodStart);
+    }
+
+    private Duration retention(TimePeriod period) {
+        return switch (period) {
+            case HOURLY -> Duration.ofHours(2);
+            case DAILY -> Duration.ofDays(2);
+            case WEEKLY -> Duration.ofDays(8);
+            case MONTHLY -> Duration.ofDays(32);
+            case LAST_1H, LAST_24H, LAST_7D -> throw new IllegalArgumentException("이동 구간은 인기 게시글 순위 대상이 아닙니다: " + period);
+        };
+    }
+
+    private LocalDateTime calculateStartDateTime(TimePeriod period) {
+        LocalDate today = LocalDate.now();
+        return switch (period) {
+            case HOURLY -> LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+            case DAILY -> today.atStartOfDay();
+            case WEEKLY -> today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+            case MONTHLY -> today.withDayOfMonth(1).atStartOfDay();
+            case LAST_1H, LAST_24H, LAST_7D -> throw new IllegalArgumentException("이동 구간은 인기 게시글 순위 대상이 아닙니다: " + period);
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.glowrise.service;
+
+import com.glowrise.domain.QPost;
+import com.glowrise.repository.PostRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 비정규화 컬럼 post.blog_id가 비어 있는 기존 게시글을 메뉴의 블로그로 채운다.
+ * 기동 직후 한 번 실행되며, 게시글을 ID 순으로 나눠 배치마다 별도 트랜잭션으로 처리한다.
+ * 채워지기 전까지 해당 게시글은 블로그 목록에 나오지 않는다 (목록 조건이 blog_id만 본다).
+ */
+@Service
+@Slf4j
+public class PostBlogIdBackfillService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JPAQueryFactory queryFactory;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostBlogIdBackfillService(JPAQueryFactory queryFactory, PostRepository postRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.queryFactory = queryFactory;
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0L;
+        int filled = 0;
+        while (true) {
+            long fromId = lastId;
+            List<Long> postIds = transactionTemplate.execute(status -> backfillBatch(fromId));
+            if (postIds == null || postIds.isEmpty()) {
+                break;
+            }
+            lastId = postIds.get(postIds.size() - 1);
+            filled += postIds.size();
+        }
+        if (filled > 0) {
+            log.info("게시글 블로그 ID 채우기 완료 (게시글 수: {})", filled);
+        }
+    }
+
+    private List<Long> backfillBatch(long afterId) {
+        QPost post = QPost.post;
+
+        List<Long> postIds = queryFactory
+                .select(post.id)
+                .from(post)
+                .where(post.id.gt(afterId), post.blogId.isNull())
+                .orderBy(post.id.asc())
+                .limit(BATCH_SIZE)
+                .fetch();
+        if (!postIds.isEmpty()) {
+            postRepository.fillBlogIds(postIds);
+        }
+        return postIds;
+    }
+}
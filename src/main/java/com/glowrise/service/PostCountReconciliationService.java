@@ -0,0 +1,160 @@
+package com.glowrise.service;
+
+import com.glowrise.domain.QComment;
+import com.glowrise.domain.QPost;
+import com.glowrise.domain.QStoredFile;
+import com.glowrise.repository.PostRepository;
+import com.glowrise.service.dto.IdCountDTO;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Post.commentCount / fileCount 집계 컬럼과 실제 댓글/파일 수의 불일치를 주기적으로 보정한다.
+ * 게시글을 ID 순으로 나눠 읽고, 어긋난 게시글만 다시 계산하므로 한 번에 큰 트랜잭션을 잡지 않는다.
+ */
+@Service
+@Slf4j
+public class PostCountReconciliationService {
+
+    private static final int BATCH_SIZE = 500;
+    // 기동 시 보정은 이 시간 안에 먼저 잠금을 얻은 인스턴스 하나만 한다 (여러 인스턴스를 한꺼번에 배포해도 한 번).
+    private static final String STARTUP_LOCK_KEY = "post-count:reconcile-on-startup";
+    private static final Duration STARTUP_LOCK_TTL = Duration.ofHours(1);
+
+    private final JPAQueryFactory queryFactory;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${glowrise.post-count.reconcile-on-startup:false}")
+    private boolean reconcileOnStartup;
+
+    public PostCountReconciliationService(JPAQueryFactory queryFactory, PostRepository postRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          RedisTemplate<String, String> redisTemplate) {
+        this.queryFactory = queryFactory;
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 집계 컬럼을 새로 추가한 배포처럼 기존 게시글을 한 번 채워야 할 때만 켠다 (기본 꺼짐, 평소에는 야간 보정으로 충분).
+     * 전체 게시글을 다시 세므로 기동을 막지 않도록 별도 스레드에서 하고, 여러 인스턴스 중 SETNX 잠금을 얻은 하나만 한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (!reconcileOnStartup || !tryLockStartupReconcile()) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                reconcile();
+            } catch (RuntimeException e) {
+                log.error("기동 시 게시글 댓글/파일 수 보정 실패", e);
+            }
+        }, "post-count-reconcile");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private boolean tryLockStartupReconcile() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(STARTUP_LOCK_KEY, "1", STARTUP_LOCK_TTL));
+        } catch (DataAccessException e) {
+            // 잠금을 확인할 수 없으면 건너뛴다. 야간 보정이 같은 일을 한다.
+            log.warn("기동 시 게시글 수 보정 잠금 확인 실패, 건너뜁니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return 보정된 게시글 수
+     */
+    @Scheduled(cron = "${glowrise.post-count.reconcile-cron:0 30 4 * * *}")
+    public int reconcile() {
+        log.info("게시글 댓글/파일 수 보정 작업 시작...");
+        long lastId = 0L;
+        int repaired = 0;
+        while (true) {
+            long fromId = lastId;
+            BatchResult result = transactionTemplate.execute(status -> reconcileBatch(fromId));
+            if (result == null || result.lastId() == null) {
+                break;
+            }
+            repaired += result.repaired();
+            lastId = result.lastId();
+        }
+        log.info("게시글 댓글/파일 수 보정 작업 완료. (보정된 게시글 수: {})", repaired);
+        return repaired;
+    }
+
+    private BatchResult reconcileBatch(long afterId) {
+        QPost post = QPost.post;
+        QComment comment = QComment.comment;
+        QStoredFile files = QStoredFile.storedFile;
+
+        List<Tuple> rows = queryFactory
+                .select(post.id, post.commentCount, post.fileCount)
+                .from(post)
+                .where(post.id.gt(afterId))
+                .orderBy(post.id.asc())
+                .limit(BATCH_SIZE)
+                .fetch();
+        if (rows.isEmpty()) {
+            return new BatchResult(null, 0);
+        }
+        List<Long> postIds = rows.stream().map(row -> row.get(post.id)).collect(Collectors.toList());
+
+        Map<Long, Long> commentCountMap = queryFactory
+                .select(Projections.constructor(IdCountDTO.class, comment.post.id, comment.count()))
+                .from(comment)
+                .where(comment.post.id.in(postIds), comment.deleted.isFalse())
+                .groupBy(comment.post.id)
+                .fetch().stream().collect(Collectors.toMap(IdCountDTO::getId, IdCountDTO::getCount));
+
+        Map<Long, Long> fileCountMap = queryFactory
+                .select(Projections.constructor(IdCountDTO.class, files.post.id, files.count()))
+                .from(files)
+                .where(files.post.id.in(postIds))
+                .groupBy(files.post.id)
+                .fetch().stream().collect(Collectors.toMap(IdCountDTO::getId, IdCountDTO::getCount));
+
+        List<Long> driftedPostIds = new ArrayList<>();
+        for (Tuple row : rows) {
+            Long postId = row.get(post.id);
+            boolean commentDrift = !Objects.equals(row.get(post.commentCount), commentCountMap.getOrDefault(postId, 0L));
+            boolean fileDrift = !Objects.equals(row.get(post.fileCount), fileCountMap.getOrDefault(postId, 0L));
+            if (commentDrift || fileDrift) {
+                driftedPostIds.add(postId);
+            }
+        }
+        // 읽은 시점 이후의 변경까지 반영되도록 보정 값은 UPDATE 안에서 다시 계산한다.
+        if (!driftedPostIds.isEmpty()) {
+            postRepository.recalculateCounts(driftedPostIds);
+            log.warn("게시글 댓글/파일 수 불일치 보정: {}", driftedPostIds);
+        }
+        return new BatchResult(postIds.get(postIds.size() - 1), driftedPostIds.size());
+    }
+
+    private record BatchResult(Long lastId, int repaired) {
+    }
+}
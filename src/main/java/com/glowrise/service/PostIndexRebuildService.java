@@ -0,0 +1,354 @@
+package com.glowrise.service;
+
+import com.glowrise.service.dto.IndexRebuildStatusDTO;
+import com.glowrise.service.search.PostSearchDocument;
+import com.glowrise.service.search.PostSearchIndex;
+import com.glowrise.service.search.SearchResultCache;
+import com.glowrise.service.util.PostTextExtractor;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 게시글 검색 색인 전체 재구축.
+ * 게시글을 findAll()로 한 번에 올리지 않고 StatelessSession의 전진 전용 커서로 ID 순으로 흘려 읽으며,
+ * 읽은 행은 batch-size개씩 묶어 작업 스레드들이 본문 텍스트 추출 → 분석/색인을 나눠 처리한다.
+ * 대기 중인 묶음 수를 제한해(queue-capacity) 읽기가 색인보다 빨라도 메모리에 쌓이지 않는다.
+ * 앞에서부터 빠짐없이 끝난 마지막 게시글 ID를 체크포인트로 색인 커밋에 함께 저장하므로,
+ * 중단되거나 재시작된 뒤에는 그 ID 다음부터 이어서 할 수 있다.
+ * DB에서 지워졌지만 색인에 남은 게시글은 검색 시 지연 삭제된다.
+ */
+@Service
+@Slf4j
+public class PostIndexRebuildService {
+
+    static final String CHECKPOINT_KEY = "rebuildCheckpoint";
+    static final String STARTED_AT_KEY = "rebuildStartedAt";
+    // 재구축 중 이 인스턴스에서 바뀐 게시글을 재구축이 이전 내용으로 덮었을 수 있어, 끝난 뒤 시작 시각부터 다시 읽는다.
+    private static final long CATCH_UP_OVERLAP_SECONDS = 60;
+
+    private static final String SELECT_POSTS = """
+            select p.id, p.title, p.plainText, case when p.plainText is null then p.content end,
+                   a.nickName, p.createdDate, p.lastModifiedDate
+            from Post p join p.author a
+            where p.id > :afterId
+            order by p.id""";
+
+    private final SessionFactory sessionFactory;
+    private final PostSearchIndex postSearchIndex;
+    private final PostIndexingService postIndexingService;
+    private final SearchResultCache searchResultCache;
+    private final PostTextExtractor postTextExtractor;
+    private final int fetchSize;
+    private final int batchSize;
+    private final int parallelism;
+    private final int queueCapacity;
+    private final int checkpointEveryBatches;
+    private final AtomicReference<Run> current = new AtomicReference<>();
+
+    public PostIndexRebuildService(EntityManagerFactory entityManagerFactory, PostSearchIndex postSearchIndex,
+                                   PostIndexingService postIndexingService, SearchResultCache searchResultCache,
+                                   PostTextExtractor postTextExtractor,
+                                   @Value("${glowrise.search.rebuild.fetch-size:1000}") int fetchSize,
+                                   @Value("${glowrise.search.rebuild.batch-size:500}") int batchSize,
+                                   @Value("${glowrise.search.rebuild.parallelism:4}") int parallelism,
+                                   @Value("${glowrise.search.rebuild.queue-capacity:8}") int queueCapacity,
+                                   @Value("${glowrise.search.rebuild.checkpoint-every-batches:20}") int checkpointEveryBatches) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.postSearchIndex = postSearchIndex;
+        this.postIndexingService = postIndexingService;
+        this.searchResultCache = searchResultCache;
+        this.postTextExtractor = postTextExtractor;
+        this.fetchSize = fetchSize;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.queueCapacity = queueCapacity;
+        this.checkpointEveryBatches = checkpointEveryBatches;
+    }
+
+    /**
+     * 재구축을 백그라운드에서 시작한다. 이미 실행 중이면 시작하지 않고 false를 반환한다.
+     *
+     * @param resume  true면 마지막 체크포인트 다음부터 이어서 한다
+     * @param afterId resume이 false일 때 이 ID 다음부터 시작한다 (null이면 처음부터)
+     */
+    public boolean start(boolean resume, Long afterId) {
+        Map<String, String> commitData = postSearchIndex.getLastCommitData();
+        long fromId;
+        LocalDateTime startedAt;
+        if (resume && commitData.containsKey(CHECKPOINT_KEY)) {
+            fromId = Long.parseLong(commitData.get(CHECKPOINT_KEY));
+            startedAt = LocalDateTime.parse(commitData.get(STARTED_AT_KEY));
+        } else {
+            fromId = afterId != null ? afterId : 0L;
+            startedAt = LocalDateTime.now();
+        }
+
+        Run run = new Run(fromId, startedAt);
+        Run previous = current.get();
+        if (previous != null && previous.isRunning() || !current.compareAndSet(previous, run)) {
+            return false;
+        }
+        Thread thread = new Thread(() -> execute(run), "search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * 실행 중인 재구축을 멈춘다. 체크포인트까지는 커밋되어 있어 resume으로 이어서 할 수 있다.
+     */
+    public boolean cancel() {
+        Run run = current.get();
+        if (run == null || !run.isRunning()) {
+            return false;
+        }
+        run.cancelled = true;
+        return true;
+    }
+
+    public IndexRebuildStatusDTO getStatus() {
+        Run run = current.get();
+        if (run == null) {
+            String checkpoint = postSearchIndex.getLastCommitData().get(CHECKPOINT_KEY);
+            return IndexRebuildStatusDTO.idle(checkpoint != null ? Long.valueOf(checkpoint) : null);
+        }
+        return run.toStatus();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cancel();
+    }
+
+    private void execute(Run run) {
+        BatchWorkers workers = new BatchWorkers(parallelism, queueCapacity);
+        log.info("게시글 검색 색인 재구축 시작 (시작 ID: {}, 읽기 단위: {}, 묶음 크기: {}, 작업 스레드: {})",
+                run.fromId, fetchSize, batchSize, parallelism);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.getTransaction().begin();
+            // 커서가 열린 동안에는 같은 연결로 다른 쿼리를 보낼 수 없으므로 개수를 먼저 센다.
+            run.total = session.createQuery("select count(p) from Post p where p.id > :afterId", Long.class)
+                    .setParameter("afterId", run.fromId)
+                    .getSingleResult();
+            try (ScrollableResults<Object[]> rows = session.createQuery(SELECT_POSTS, Object[].class)
+                    .setParameter("afterId", run.fromId)
+                    .setFetchSize(fetchSize)
+                    .setReadOnly(true)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                List<Object[]> batch = new ArrayList<>(batchSize);
+                long sequence = 0;
+                while (!run.cancelled && run.failure.get() == null && rows.next()) {
+                    batch.add(rows.get());
+                    if (batch.size() == batchSize) {
+                        submit(workers, run, sequence++, batch);
+                        batch = new ArrayList<>(batchSize);
+                        if (sequence % checkpointEveryBatches == 0) {
+                            checkpoint(run);
+                        }
+                    }
+                }
+                if (!batch.isEmpty() && !run.cancelled) {
+                    submit(workers, run, sequence, batch);
+                }
+            } finally {
+                session.getTransaction().commit();
+            }
+            workers.shutdown();
+            workers.awaitTermination();
+            checkpoint(run);
+            finish(run);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.failure.compareAndSet(null, e);
+            run.state = IndexRebuildStatusDTO.State.FAILED;
+        } catch (RuntimeException e) {
+            run.failure.compareAndSet(null, e);
+            run.state = IndexRebuildStatusDTO.State.FAILED;
+            log.warn("게시글 검색 색인 재구축 실패 (체크포인트: {})", run.checkpointId, e);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void submit(BatchWorkers workers, Run run, long sequence, List<Object[]> rows) throws InterruptedException {
+        Long lastId = (Long) rows.get(rows.size() - 1)[0];
+        workers.submit(() -> {
+            try {
+                if (run.failure.get() == null) {
+                    postSearchIndex.index(toDocuments(rows));
+                    run.processed.addAndGet(rows.size());
+                    run.completed(sequence, lastId);
+                }
+            } catch (RuntimeException e) {
+                if (run.failure.compareAndSet(null, e)) {
+                    log.warn("게시글 검색 색인 재구축 묶음 처리 실패 (묶음 마지막 ID: {})", lastId, e);
+                }
+            }
+        });
+    }
+
+    private List<PostSearchDocument> toDocuments(List<Object[]> rows) {
+        List<PostSearchDocument> documents = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            // 본문 텍스트 컬럼이 아직 채워지지 않은 게시글만 HTML에서 뽑는다.
+            String body = row[2] != null ? (String) row[2] : postTextExtractor.toPlainText((String) row[3]);
+            documents.add(new PostSearchDocument((Long) row[0], (String) row[1], body, (String) row[4],
+                    (LocalDateTime) row[5], (LocalDateTime) row[6]));
+        }
+        return documents;
+    }
+
+    private void checkpoint(Run run) {
+        Map<String, String> data = new HashMap<>();
+        data.put(CHECKPOINT_KEY, String.valueOf(run.checkpointId));
+        data.put(STARTED_AT_KEY, run.startedAt.toString());
+        postSearchIndex.commit(data);
+        postSearchIndex.refresh();
+    }
+
+    private void finish(Run run) {
+        if (run.failure.get() != null) {
+            run.state = IndexRebuildStatusDTO.State.FAILED;
+            return;
+        }
+        if (run.cancelled) {
+            run.state = IndexRebuildStatusDTO.State.CANCELLED;
+            log.info("게시글 검색 색인 재구축 중단 (체크포인트: {}, 처리 수: {})", run.checkpointId, run.processed.get());
+            return;
+        }
+        postIndexingService.reindexSince(run.startedAt.minusSeconds(CATCH_UP_OVERLAP_SECONDS));
+        Map<String, String> data = new HashMap<>();
+        data.put(CHECKPOINT_KEY, null);
+        data.put(STARTED_AT_KEY, null);
+        postSearchIndex.commit(data);
+        searchResultCache.invalidateAll("reindex");
+        run.state = IndexRebuildStatusDTO.State.COMPLETED;
+        log.info("게시글 검색 색인 재구축 완료 (처리 수: {}, 소요 시간: {}초)",
+                run.processed.get(), TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - run.startedNanos));
+    }
+
+    /**
+     * 실행 중 + 대기 중 묶음 수를 parallelism + queueCapacity개로 제한하는 작업 스레드 풀. 자리가 없으면 submit이 기다린다.
+     * 허가는 작업이 끝날 때 돌려주지만 작업 스레드가 큐에서 다음 묶음을 꺼내는 것은 그 뒤이므로,
+     * 모든 작업 스레드가 그 사이에 있으면 큐에는 허가 수만큼 쌓일 수 있다. 큐를 허가 수만큼 잡아 거부(RejectedExecutionException)를 막는다.
+     */
+    static class BatchWorkers {
+        private final ThreadPoolExecutor executor;
+        private final Semaphore permits;
+
+        BatchWorkers(int parallelism, int queueCapacity) {
+            int maxInFlight = parallelism + queueCapacity;
+            this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(maxInFlight), workerFactory());
+            this.permits = new Semaphore(maxInFlight);
+        }
+
+        void submit(Runnable task) throws InterruptedException {
+            permits.acquire();
+            try {
+                executor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        void shutdown() {
+            executor.shutdown();
+        }
+
+        void awaitTermination() throws InterruptedException {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+
+        void shutdownNow() {
+            executor.shutdownNow();
+        }
+
+        private static ThreadFactory workerFactory() {
+            AtomicInteger threadNumber = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "search-rebuild-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+
+    /**
+     * 실행 1회의 진행 상태. 묶음은 끝나는 순서가 뒤섞이므로, 앞 순번이 모두 끝난 묶음까지만 체크포인트로 삼는다.
+     */
+    private static class Run {
+        private final long fromId;
+        private final LocalDateTime startedAt;
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final TreeMap<Long, Long> pending = new TreeMap<>();
+        private volatile IndexRebuildStatusDTO.State state = IndexRebuildStatusDTO.State.RUNNING;
+        private volatile boolean cancelled;
+        private volatile long total;
+        private volatile long checkpointId;
+        private long nextSequence;
+
+        Run(long fromId, LocalDateTime startedAt) {
+            this.fromId = fromId;
+            this.startedAt = startedAt;
+            this.checkpointId = fromId;
+        }
+
+        boolean isRunning() {
+            return state == IndexRebuildStatusDTO.State.RUNNING;
+        }
+
+        synchronized void completed(long sequence, Long lastId) {
+            pending.put(sequence, lastId);
+            while (pending.containsKey(nextSequence)) {
+                checkpointId = pending.remove(nextSequence);
+                nextSequence++;
+            }
+        }
+
+        IndexRebuildStatusDTO toStatus() {
+            long done = processed.get();
+            double elapsedSeconds = (System.nanoTime() - startedNanos) / 1_000_000_000.0;
+            double throughput = elapsedSeconds > 0 ? done / elapsedSeconds : 0;
+            Long etaSeconds = isRunning() && throughput > 0
+                    ? (long) Math.ceil(Math.max(0, total - done) / throughput)
+                    : null;
+            Throwable error = failure.get();
+            return new IndexRebuildStatusDTO(state, fromId, checkpointId, total, done,
+                    Math.round(throughput * 10) / 10.0, etaSeconds, (long) elapsedSeconds,
+                    error != null ? error.getMessage() : null);
+        }
+    }
+}
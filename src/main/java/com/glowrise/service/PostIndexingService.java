@@ -0,0 +1,349 @@
+package com.glowrise.service;
+
+import com.glowrise.domain.QPost;
+import com.glowrise.domain.QUser;
+import com.glowrise.service.event.PostChangedEvent;
+import com.glowrise.service.event.UserChangedEvent;
+import com.glowrise.service.search.PostSearchDocument;
+import com.glowrise.service.search.PostSearchIndex;
+import com.glowrise.service.search.SearchResultCache;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 검색 색인(PostSearchIndex)을 DB와 맞춘다.
+ * 이 인스턴스에서 생긴 변경은 PostChangedEvent로 모아 짧은 주기로 반영하고,
+ * 다른 인스턴스에서 생긴 변경이나 놓친 이벤트는 lastModifiedDate 기준 주기적 따라잡기로 반영한다.
+ * 삭제는 수정 시각으로 따라잡을 수 없으므로, 삭제를 확인한 인스턴스가 Redis 채널로 알리고
+ * 알림을 놓친 경우에 대비해 색인의 ID 전체를 DB와 주기적으로 대조한다.
+ * 어디까지 반영했는지는 색인 커밋에 함께 저장하므로 재시작 후에는 그 시점 이후 변경만 다시 읽는다.
+ */
+@Service
+@Slf4j
+public class PostIndexingService {
+
+    public static final String DELETED_CHANNEL = "search:post-deleted";
+
+    private static final String WATERMARK_KEY = "watermark";
+    private static final int BATCH_SIZE = 500;
+    // 트랜잭션 커밋 순서와 lastModifiedDate 순서가 어긋나 놓치는 변경이 없도록 겹쳐서 다시 읽는 구간
+    private static final long CATCH_UP_OVERLAP_SECONDS = 60;
+
+    private final JPAQueryFactory queryFactory;
+    private final PostSearchIndex postSearchIndex;
+    private final SearchResultCache searchResultCache;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Set<Long> dirtyPostIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyAuthorIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> remoteDeletedPostIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+    private volatile LocalDateTime watermark;
+
+    public PostIndexingService(JPAQueryFactory queryFactory, PostSearchIndex postSearchIndex,
+                               SearchResultCache searchResultCache, PlatformTransactionManager transactionManager,
+                               RedisTemplate<String, String> redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.queryFactory = queryFactory;
+        this.postSearchIndex = postSearchIndex;
+        this.searchResultCache = searchResultCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this::onDeletedMessage, new ChannelTopic(DELETED_CHANNEL));
+    }
+
+    /**
+     * 검색에 사용할 수 있을 만큼 색인이 채워졌는지 여부. 초기 색인 전에는 DB 검색으로 대신한다.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        dirtyPostIds.add(event.getPostId());
+    }
+
+    /**
+     * 닉네임이 바뀌면 작성자 필드로 검색되도록 그 사용자의 게시글을 다시 색인한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        dirtyAuthorIds.add(event.getUserId());
+    }
+
+    /**
+     * 검색 결과에 나왔지만 DB에 없는 게시글을 색인에서 제거한다.
+     */
+    public void remove(Collection<Long> postIds) {
+        dirtyPostIds.addAll(postIds);
+    }
+
+    /**
+     * 다른 인스턴스가 삭제를 확인한 게시글. 바로 지우지 않고 다음 반영 주기에 DB로 다시 확인한다.
+     * 자기 인스턴스가 보낸 알림도 받지만 DB 확인 한 번으로 끝난다.
+     */
+    private void onDeletedMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            for (String postId : body.split(",")) {
+                remoteDeletedPostIds.add(Long.valueOf(postId));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 게시글 삭제 알림: {}", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        String stored = postSearchIndex.getLastCommitData().get(WATERMARK_KEY);
+        LocalDateTime from = stored != null && !postSearchIndex.isEmpty() ? LocalDateTime.parse(stored) : null;
+        try {
+            int indexed = catchUp(from);
+            ready = true;
+            // 이전까지 캐시된 결과는 DB 검색 결과이므로 버린다.
+            searchResultCache.invalidateAll("reindex");
+            log.info("게시글 검색 색인 준비 완료 (기준 시각: {}, 반영 게시글 수: {})", from, indexed);
+        } catch (DataAccessException e) {
+            log.warn("게시글 검색 색인 초기화 실패, 다음 따라잡기 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${glowrise.search.refresh-interval-ms:1000}")
+    public void flush() {
+        if (!dirtyAuthorIds.isEmpty()) {
+            collectAuthorPosts();
+        }
+        if (dirtyPostIds.isEmpty() && remoteDeletedPostIds.isEmpty()) {
+            return;
+        }
+        List<Long> dirty = new ArrayList<>(dirtyPostIds);
+        dirtyPostIds.removeAll(dirty);
+        List<Long> remote = new ArrayList<>(remoteDeletedPostIds);
+        remoteDeletedPostIds.removeAll(remote);
+        Set<Long> targets = new HashSet<>(dirty);
+        targets.addAll(remote);
+        try {
+            List<PostSearchDocument> documents = transactionTemplate.execute(status -> loadDocuments(targets));
+            Set<Long> missing = new HashSet<>(targets);
+            documents.forEach(document -> missing.remove(document.postId()));
+            postSearchIndex.index(documents);
+            postSearchIndex.delete(missing);
+            postSearchIndex.refresh();
+            searchResultCache.onPostsIndexed(documents, missing);
+            // 다른 인스턴스에서 알려 온 삭제는 다시 알리지 않는다 (인스턴스 사이를 계속 오가지 않도록).
+            Set<Long> deletedHere = new HashSet<>(missing);
+            deletedHere.removeAll(remote);
+            publishDeleted(deletedHere);
+        } catch (DataAccessException e) {
+            dirtyPostIds.addAll(dirty);
+            remoteDeletedPostIds.addAll(remote);
+            log.warn("게시글 검색 색인 반영 실패, 다음 주기에 다시 시도합니다. (게시글 수: {})", targets.size(), e);
+        }
+    }
+
+    private void collectAuthorPosts() {
+        List<Long> authors = new ArrayList<>(dirtyAuthorIds);
+        dirtyAuthorIds.removeAll(authors);
+        QPost post = QPost.post;
+        try {
+            List<Long> postIds = transactionTemplate.execute(status -> queryFactory
+                    .select(post.id)
+                    .from(post)
+                    .where(post.author.id.in(authors))
+                    .fetch());
+            dirtyPostIds.addAll(postIds);
+        } catch (DataAccessException e) {
+            dirtyAuthorIds.addAll(authors);
+            log.warn("작성자 게시글 조회 실패, 다음 주기에 다시 시도합니다. (사용자 수: {})", authors.size(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${glowrise.search.catch-up-interval-ms:30000}",
+            initialDelayString = "${glowrise.search.catch-up-interval-ms:30000}")
+    public void scheduledCatchUp() {
+        try {
+            if (!ready) {
+                initialize();
+                return;
+            }
+            LocalDateTime current = watermark;
+            catchUp(current != null ? current.minusSeconds(CATCH_UP_OVERLAP_SECONDS) : null);
+        } catch (DataAccessException e) {
+            log.warn("게시글 검색 색인 따라잡기 실패", e);
+        }
+    }
+
+    /**
+     * 색인에는 있지만 DB에 없는 게시글을 지운다. 삭제 알림을 놓친 경우(Redis 장애, 중지 중 삭제 등)를 위한 대조로,
+     * ID 필드만 읽고 BATCH_SIZE씩 DB에 존재 여부를 묻는다.
+     */
+    @Scheduled(fixedDelayString = "${glowrise.search.reconcile-interval-ms:3600000}",
+            initialDelayString = "${glowrise.search.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        if (!ready) {
+            return;
+        }
+        QPost post = QPost.post;
+        List<Long> indexed = postSearchIndex.postIds();
+        Set<Long> missing = new HashSet<>();
+        try {
+            for (int from = 0; from < indexed.size(); from += BATCH_SIZE) {
+                List<Long> batch = indexed.subList(from, Math.min(from + BATCH_SIZE, indexed.size()));
+                List<Long> existing = transactionTemplate.execute(status -> queryFactory
+                        .select(post.id)
+                        .from(post)
+                        .where(post.id.in(batch))
+                        .fetch());
+                missing.addAll(batch);
+                existing.forEach(missing::remove);
+            }
+        } catch (DataAccessException e) {
+            log.warn("게시글 검색 색인 대조 실패, 다음 주기에 다시 시도합니다.", e);
+            return;
+        }
+        if (!missing.isEmpty()) {
+            postSearchIndex.delete(missing);
+            postSearchIndex.refresh();
+            searchResultCache.onPostsIndexed(List.of(), missing);
+            log.info("게시글 검색 색인 대조: DB에 없는 게시글 {}건 제거 (색인 게시글 수: {})", missing.size(), indexed.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${glowrise.search.commit-interval-ms:60000}")
+    public void commit() {
+        LocalDateTime current = watermark;
+        if (current != null) {
+            postSearchIndex.commit(Map.of(WATERMARK_KEY, current.toString()));
+        }
+    }
+
+    /**
+     * from 이후 수정된 게시글을 다시 색인한다. 전체 재구축이 그동안의 변경을 이전 내용으로 덮었을 수 있을 때 호출한다.
+     */
+    public int reindexSince(LocalDateTime from) {
+        return catchUp(from);
+    }
+
+    /**
+     * from 이후 수정된 게시글을 (lastModifiedDate, id) 순으로 나눠 읽어 색인한다. from이 null이면 전체를 색인한다.
+     */
+    private synchronized int catchUp(LocalDateTime from) {
+        LocalDateTime lastModified = from;
+        Long lastId = null;
+        int indexed = 0;
+        // 검색 결과 캐시를 골라서 지울 게시글. 한 묶음보다 많이 바뀌었으면 캐시 전체를 지운다.
+        List<PostSearchDocument> changed = new ArrayList<>();
+        while (true) {
+            LocalDateTime afterModified = lastModified;
+            Long afterId = lastId;
+            List<PostSearchDocument> documents = transactionTemplate.execute(status -> loadChangedSince(afterModified, afterId));
+            if (documents.isEmpty()) {
+                break;
+            }
+            postSearchIndex.index(documents);
+            indexed += documents.size();
+            if (indexed <= BATCH_SIZE) {
+                changed.addAll(documents);
+            }
+            PostSearchDocument last = documents.get(documents.size() - 1);
+            lastModified = last.lastModifiedAt();
+            lastId = last.postId();
+            if (documents.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        postSearchIndex.refresh();
+        if (indexed > BATCH_SIZE) {
+            searchResultCache.invalidateAll("reindex");
+        } else {
+            searchResultCache.onPostsIndexed(changed, List.of());
+        }
+        if (lastModified != null && (watermark == null || lastModified.isAfter(watermark))) {
+            watermark = lastModified;
+        }
+        return indexed;
+    }
+
+    // 받은 인스턴스도 DB로 다시 확인하므로 알림이 중복되거나 실패해도 색인이 틀어지지 않는다 (실패 시 reconcile이 맞춘다).
+    private void publishDeleted(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(DELETED_CHANNEL,
+                    String.join(",", postIds.stream().map(String::valueOf).toList()));
+        } catch (DataAccessException e) {
+            log.warn("게시글 삭제 알림 실패 (게시글 수: {}): {}", postIds.size(), e.getMessage());
+        }
+    }
+
+    private List<PostSearchDocument> loadDocuments(Collection<Long> postIds) {
+        QPost post = QPost.post;
+        return fetchDocuments(post.id.in(postIds), postIds.size());
+    }
+
+    private List<PostSearchDocument> loadChangedSince(LocalDateTime afterModified, Long afterId) {
+        QPost post = QPost.post;
+        BooleanExpression after = null;
+        if (afterModified != null) {
+            after = afterId == null
+                    ? post.lastModifiedDate.goe(afterModified)
+                    : post.lastModifiedDate.gt(afterModified)
+                    .or(post.lastModifiedDate.eq(afterModified).and(post.id.gt(afterId)));
+        }
+        return fetchDocuments(after, BATCH_SIZE);
+    }
+
+    private List<PostSearchDocument> fetchDocuments(BooleanExpression condition, int limit) {
+        QPost post = QPost.post;
+        QUser author = new QUser("author");
+
+        List<Tuple> rows = queryFactory
+                .select(post.id, post.title, post.plainText.coalesce(""), author.nickName,
+                        post.createdDate, post.lastModifiedDate)
+                .from(post)
+                .join(post.author, author)
+                .where(condition)
+                .orderBy(post.lastModifiedDate.asc(), post.id.asc())
+                .limit(limit)
+                .fetch();
+
+        List<PostSearchDocument> documents = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            documents.add(new PostSearchDocument(
+                    row.get(post.id),
+                    row.get(post.title),
+                    row.get(2, String.class),
+                    row.get(author.nickName),
+                    row.get(post.createdDate),
+                    row.get(post.lastModifiedDate)));
+        }
+        return documents;
+    }
+}
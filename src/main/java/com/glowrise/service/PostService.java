@@ -1,64 +1,72 @@
 package com.glowrise.service;
 
 import com.glowrise.domain.*;
+import com.glowrise.domain.enumerate.PostActivityType;
 import com.glowrise.domain.enumerate.TimePeriod;
-import com.glowrise.repository.FileRepository;
 import com.glowrise.repository.MenuRepository;
 import com.glowrise.repository.PostRepository;
+import com.glowrise.service.dto.CursorSliceDTO;
 import com.glowrise.service.dto.FileDTO;
-import com.glowrise.service.dto.IdCountDTO;
 import com.glowrise.service.dto.PostDTO;
+import com.glowrise.service.dto.PostSummaryDTO;
+import com.glowrise.service.event.PostActivityEvent;
+import com.glowrise.service.event.PostChangedEvent;
 import com.glowrise.service.mapper.PostMapper;
+import com.glowrise.service.util.KeysetCursor;
+import com.glowrise.service.util.MenuTreeCache;
+import com.glowrise.service.util.PostDetailCache;
+import com.glowrise.service.util.PostSummaryProjection;
+import com.glowrise.service.util.PostTextExtractor;
+import com.glowrise.service.util.PostTextExtractor.PostText;
 import com.glowrise.service.util.QueryDslPagingUtil;
 import com.glowrise.service.util.SecurityUtil;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.owasp.html.PolicyFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.time.DayOfWeek;
-import java.time.LocalDateTime;
-import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
-    private static final int VIEW_COUNT_TTL_SECONDS = 300;
-    private static final String VIEW_COUNT_KEY_PREFIX_USER = "view:post:%d:user:%d:ip:%s";
-    private static final String VIEW_COUNT_KEY_PREFIX_ANONYMOUS = "view:post:%d:ip:%s";
+    private static final String VIEWER_ID_FORMAT_USER = "user:%d:ip:%s";
+    private static final String VIEWER_ID_FORMAT_ANONYMOUS = "ip:%s";
+    private static final String POST_COUNT_CACHE_KEY_FORMAT = "posts:blog:%d:menu:%s:keyword:%s";
 
     private final MenuRepository menuRepository;
     private final SecurityUtil securityUtil;
-    private final PolicyFactory htmlPolicyFactory;
-    private final FileRepository fileRepository;
+    private final HtmlSanitizationService htmlSanitizationService;
     private final FileService fileService;
     private final QueryDslPagingUtil pagingUtil;
     private final JPAQueryFactory queryFactory;
     private final PostRepository postRepository;
     private final PostMapper postMapper;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final ViewCountService viewCountService;
+    private final PopularPostRankingService popularPostRankingService;
+    private final TrendingService trendingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostTextExtractor postTextExtractor;
+    private final MenuTreeCache menuTreeCache;
+    private final PostDetailCache postDetailCache;
 
     @Transactional
     @PreAuthorize("@authorizationService.isBlogOwnerByMenuId(#dto.menuId)")
@@ -69,34 +77,29 @@ public class PostService {
         Post post = postMapper.toEntity(dto);
 
         String originalHtmlContent = dto.getContent();
-        String sanitizedContent = htmlPolicyFactory.sanitize(originalHtmlContent);
+        String sanitizedContent = htmlSanitizationService.sanitize(originalHtmlContent);
         post.setContent(sanitizedContent);
+        applyText(post, sanitizedContent);
 
         post.setAuthor(author);
         post.setMenu(menu);
         post.setViewCount(0L);
+        post.setCommentCount(0L);
+        post.setFileCount(0L);
 
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostActivityEvent(savedPost.getId(), PostActivityType.POST_SAVED));
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId()));
 
         handleFileUploads(files, savedPost);
 
-        List<Long> inlineIds = dto.getInlineImageFileIds();
-        if (inlineIds != null && !inlineIds.isEmpty()) {
-            List<StoredFile> inlineFilesToUpdate = fileRepository.findAllById(inlineIds);
-            for (StoredFile inlineFile : inlineFilesToUpdate) {
-                if (inlineFile.getPost() == null) {
-                    inlineFile.setPost(savedPost);
-                    fileRepository.save(inlineFile);
-                }
-            }
-        }
+        fileService.attachFilesToPost(dto.getInlineImageFileIds(), savedPost);
 
         PostDTO resultDto = postMapper.toDto(savedPost);
         List<FileDTO> attachedFileDtos = fileService.getFilesByPostId(savedPost.getId());
         resultDto.setFileIds(attachedFileDtos.stream().map(FileDTO::getId).collect(Collectors.toList()));
         resultDto.setCommentCount(0L);
-        int inlineImageCount = (inlineIds != null) ? inlineIds.size() : 0;
-        resultDto.setFileCount((long) attachedFileDtos.size() + inlineImageCount);
+        resultDto.setFileCount((long) attachedFileDtos.size()); // 첨부 파일과 본문 이미지 모두 포함
 
         return resultDto;
     }
@@ -110,14 +113,17 @@ public class PostService {
         handleMenuUpdate(dto.getMenuId(), post, currentUserId);
 
         String newHtmlContent = dto.getContent();
-        String sanitizedContent = htmlPolicyFactory.sanitize(newHtmlContent);
+        String sanitizedContent = htmlSanitizationService.sanitize(newHtmlContent);
 
         post.setTitle(dto.getTitle());
         post.setContent(sanitizedContent);
+        applyText(post, sanitizedContent);
 
         handleFileUpdates(files, post);
 
         Post updatedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostActivityEvent(updatedPost.getId(), PostActivityType.POST_SAVED));
+        eventPublisher.publishEvent(new PostChangedEvent(updatedPost.getId()));
 
         PostDTO resultDto = postMapper.toDto(updatedPost);
         if (updatedPost.getFiles() != null) {
@@ -125,7 +131,7 @@ public class PostService {
         } else {
             resultDto.setFileIds(new ArrayList<>());
         }
-        resultDto.setCommentCount(post.getComments() != null ? post.getComments().size() : 0L);
+        resultDto.setCommentCount(post.getCommentCount());
 
         return resultDto;
     }
@@ -136,13 +142,39 @@ public class PostService {
         Post post = findPostByIdOrThrow(postId);
         fileService.deleteFilesByPostId(postId);
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
+    /**
+     * 게시글 상세 조회. 본문 등은 상세 캐시에서 가져오고, 조회수/댓글 수는 게시글 행에서 매번 읽는다.
+     */
     @Transactional(readOnly = true)
     public PostDTO getPostById(Long postId, String clientIp, Authentication authentication) {
-        Post post = findPostByIdOrThrow(postId);
-        tryIncrementViewCount(post, clientIp, authentication);
+        QPost post = QPost.post;
+        Tuple current = queryFactory
+                .select(post.viewCount, post.commentCount, post.fileCount, post.lastModifiedDate)
+                .from(post)
+                .where(post.id.eq(postId))
+                .fetchOne();
+        if (current == null) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다 (ID: " + postId + ")");
+        }
+
+        PostDTO postDTO = postDetailCache.get(postId, current.get(post.lastModifiedDate), current.get(post.fileCount),
+                () -> loadPostDetail(postId));
 
+        long pendingViewCount = recordView(postId, clientIp, authentication);
+        Long viewCount = current.get(post.viewCount);
+        postDTO.setViewCount((viewCount != null ? viewCount : 0L) + pendingViewCount);
+        postDTO.setUniqueViewerCount(viewCountService.getUniqueViewerCount(postId));
+        postDTO.setCommentCount(current.get(post.commentCount));
+
+        return postDTO;
+    }
+
+    private PostDTO loadPostDetail(Long postId) {
+        Post post = postRepository.findDetailById(postId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다 (ID: " + postId + ")"));
         PostDTO postDTO = postMapper.toDto(post);
         postDTO.setUpdatedAt(post.getLastModifiedDate());
         if (post.getFiles() != null) {
@@ -150,184 +182,161 @@ public class PostService {
         } else {
             postDTO.setFileIds(new ArrayList<>());
         }
-        postDTO.setCommentCount(0L);
         postDTO.setMenuId(post.getMenu().getId());
-
         return postDTO;
     }
 
     @Transactional(readOnly = true)
-    public List<PostDTO> getAllPosts() {
-        return postRepository.findAll().stream()
-                .map(postMapper::toDto)
-                .collect(Collectors.toList());
+    public List<PostSummaryDTO> getAllPosts() {
+        QPost post = QPost.post;
+
+        return selectSummaries()
+                .orderBy(post.id.asc())
+                .fetch();
     }
 
     @Transactional(readOnly = true)
-    public List<PostDTO> getPostsByUserId(Long userId) {
+    public List<PostSummaryDTO> getPostsByUserId(Long userId) {
         securityUtil.findUserByIdOrThrow(userId);
-        return postRepository.findByAuthorId(userId).stream()
-                .map(postMapper::toDto)
-                .collect(Collectors.toList());
+        QPost post = QPost.post;
+
+        return selectSummaries()
+                .where(post.author.id.eq(userId))
+                .orderBy(post.id.asc())
+                .fetch();
     }
 
     @Transactional(readOnly = true)
-    public Page<PostDTO> getPosts(Long blogId, Long menuId, String searchKeyword, Pageable pageable) {
+    public Page<PostSummaryDTO> getPosts(Long blogId, Long menuId, String searchKeyword, Pageable pageable) {
         QPost post = QPost.post;
-        QMenu menu = QMenu.menu;
-        QComment comment = QComment.comment;
-        QStoredFile files = QStoredFile.storedFile;
+        String keyword = normalizeKeyword(searchKeyword);
 
-        List<Long> targetMenuIds = null;
-        if (menuId != null) {
-            targetMenuIds = menuRepository.findAllMenuIdsByParent(menuId);
-            if (targetMenuIds == null || targetMenuIds.isEmpty()) return Page.empty(pageable);
-        }
+        BooleanBuilder whereClause = buildListPredicate(blogId, menuId, keyword);
+        if (whereClause == null) return Page.empty(pageable);
 
-        JPQLQuery<Post> baseQuery = queryFactory
-                .selectFrom(post)
-                .join(post.menu, menu).fetchJoin()
-                .join(post.author).fetchJoin()
-                .where(
-                        menu.blog.id.eq(blogId),
-                        menuId != null && !targetMenuIds.isEmpty()
-                                ? post.menu.id.in(targetMenuIds) : null,
-                        (searchKeyword != null && !searchKeyword.trim().isEmpty())
-                                ? post.title.containsIgnoreCase(searchKeyword)
-                                .or(post.content.containsIgnoreCase(searchKeyword)) : null
-                )
+        JPQLQuery<PostSummaryDTO> baseQuery = selectSummaries()
+                .where(whereClause)
                 .orderBy(post.lastModifiedDate.desc());
 
-        Page<Post> postPage = pagingUtil.getPage(baseQuery, pageable);
-        List<Post> posts = postPage.getContent();
-
-        if (posts.isEmpty()) {
-            return Page.empty(pageable);
-        }
-        List<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
-
-        Map<Long, Long> commentCountMap = queryFactory
-                .select(Projections.constructor(IdCountDTO.class, comment.post.id, comment.countDistinct().longValue()))
-                .from(comment)
-                .where(comment.post.id.in(postIds))
-                .groupBy(comment.post.id)
-                .fetch().stream().collect(Collectors.toMap(IdCountDTO::getId, IdCountDTO::getCount));
-
-        Map<Long, Long> fileCountMap = queryFactory
-                .select(Projections.constructor(IdCountDTO.class, files.post.id, files.countDistinct().longValue()))
-                .from(files)
-                .where(files.post.id.in(postIds))
-                .groupBy(files.post.id)
-                .fetch().stream().collect(Collectors.toMap(IdCountDTO::getId, IdCountDTO::getCount));
-
-        List<PostDTO> postDtos = posts.stream()
-                .map(p -> {
-                    PostDTO dto = postMapper.toDto(p);
-                    dto.setCommentCount(commentCountMap.getOrDefault(p.getId(), 0L));
-                    dto.setFileCount(fileCountMap.getOrDefault(p.getId(), 0L));
-                    dto.setUpdatedAt(p.getLastModifiedDate());
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        // 개수는 조인 없이 post만 세고 (조건이 모두 post 컬럼), 조건별로 잠시 캐시한다. (근사치)
+        JPQLQuery<Long> countQuery = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(whereClause);
+        String countCacheKey = String.format(POST_COUNT_CACHE_KEY_FORMAT, blogId, menuId, keyword != null ? keyword : "");
 
-        return new PageImpl<>(postDtos, pageable, postPage.getTotalElements());
+        return pagingUtil.getPage(baseQuery, pageable, countQuery, countCacheKey);
     }
 
+    /**
+     * 커서 기반 게시글 목록 (lastModifiedDate, id 내림차순).
+     * OFFSET과 전체 개수 조회 없이 직전 페이지의 마지막 위치부터 size + 1건만 읽어 다음 페이지 여부를 판단한다.
+     * 블로그 전체 목록은 비정규화한 post.blog_id로 idx_post_blog_modified_id를, 메뉴 목록은 idx_post_menu_modified_id를 따라 읽는다.
+     *
+     * @throws com.glowrise.service.exception.InvalidCursorException 형식이 올바르지 않은 커서 (400 응답)
+     */
     @Transactional(readOnly = true)
-    public List<PostDTO> getPopularPostsByRecentModification(TimePeriod period, int limit) {
+    public CursorSliceDTO<PostSummaryDTO> getPostSlice(Long blogId, Long menuId, String searchKeyword, String cursor, int size) {
         QPost post = QPost.post;
-        QComment comment = QComment.comment;
-        QMenu menu = QMenu.menu;
 
-        // 1. 시작 시간 계산 (기존과 동일)
-        LocalDateTime startDateTime = calculateStartDateTime(period);
+        BooleanBuilder whereClause = buildListPredicate(blogId, menuId, normalizeKeyword(searchKeyword));
+        if (whereClause == null) return new CursorSliceDTO<>(new ArrayList<>(), 0, false, null);
 
-        LocalDateTime endDateTime = null;
-        if (period == TimePeriod.DAILY) {
-            endDateTime = startDateTime.toLocalDate().plusDays(1).atStartOfDay();
+        if (StringUtils.hasText(cursor)) {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            whereClause.and(post.lastModifiedDate.lt(position.getTime())
+                    .or(post.lastModifiedDate.eq(position.getTime()).and(post.id.lt(position.getId()))));
         }
 
-        NumberExpression<Long> popularityScore = post.viewCount.coalesce(0L).multiply(3)
-                .add(comment.countDistinct().multiply(5));
+        List<PostSummaryDTO> posts = selectSummaries()
+                .where(whereClause)
+                .orderBy(post.lastModifiedDate.desc(), post.id.desc())
+                .limit(size + 1L)
+                .fetch();
 
-        OrderSpecifier<?> scoreOrder = popularityScore.desc();
-        OrderSpecifier<?> dateOrder = post.lastModifiedDate.desc();
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = posts.subList(0, size);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryDTO last = posts.get(posts.size() - 1);
+            nextCursor = new KeysetCursor(last.getUpdatedAt(), last.getId()).encode();
+        }
 
-        BooleanBuilder whereClause = new BooleanBuilder();
-        // 기본 조건: 시작 시간 이후
-        whereClause.and(post.lastModifiedDate.goe(startDateTime));
+        return new CursorSliceDTO<>(new ArrayList<>(posts), posts.size(), hasNext, nextCursor);
+    }
 
-        if (period == TimePeriod.DAILY && endDateTime != null) {
-            whereClause.and(post.lastModifiedDate.lt(endDateTime)); // less than (<) 내일 시작 시간
-        }
-        List<Long> topPostIds = queryFactory
-                .select(post.id)
-                .from(post)
-                .leftJoin(post.comments, comment)
-                .where(whereClause) // BooleanBuilder로 생성된 조건 적용
-                .groupBy(post.id, post.viewCount, post.lastModifiedDate)
-                .orderBy(scoreOrder, dateOrder)
-                .limit(limit)
-                .fetch();
+    @Transactional(readOnly = true)
+    public List<PostSummaryDTO> getPopularPostsByRecentModification(TimePeriod period, int limit) {
+        QPost post = QPost.post;
 
-        if (topPostIds == null || topPostIds.isEmpty()) {
+        // 순위는 미리 집계되어 있으므로 상위 ID만 꺼낸다. (달력 구간: Redis Sorted Set, 이동 구간: 메모리 트렌딩 순위)
+        // 삭제된 게시글이 순위에 남아 있을 수 있어 여유분을 함께 조회한다.
+        List<Long> topPostIds = period.isRolling()
+                ? trendingService.getTopPostIds(period, limit * 2)
+                : popularPostRankingService.getTopPostIds(period, limit * 2);
+        if (topPostIds.isEmpty()) {
             return new ArrayList<>();
         }
 
-        List<Post> postsUnordered = queryFactory
-                .selectFrom(post)
-                .join(post.menu, menu).fetchJoin()
-                .join(post.author).fetchJoin()
+        List<PostSummaryDTO> postsUnordered = selectSummaries()
                 .where(post.id.in(topPostIds))
                 .fetch();
 
-        Map<Long, Post> postMap = postsUnordered.stream().collect(Collectors.toMap(Post::getId, p -> p));
-        List<Post> postsOrdered = topPostIds.stream().map(postMap::get).filter(Objects::nonNull).collect(Collectors.toList());
+        Map<Long, PostSummaryDTO> postMap = postsUnordered.stream()
+                .collect(Collectors.toMap(PostSummaryDTO::getId, p -> p));
+        List<Long> removedPostIds = topPostIds.stream().filter(id -> !postMap.containsKey(id)).collect(Collectors.toList());
+        if (!removedPostIds.isEmpty()) {
+            if (period.isRolling()) {
+                trendingService.remove(removedPostIds);
+            } else {
+                popularPostRankingService.removeFromRanking(period, removedPostIds);
+            }
+        }
+        return topPostIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
 
-        return enrichPostsWithCounts(postsOrdered);
+    // 본문에서 파생되는 컬럼(본문 텍스트, 요약, 어절 수)을 저장 시점에 계산한다.
+    private void applyText(Post post, String sanitizedContent) {
+        PostText text = postTextExtractor.extract(sanitizedContent);
+        post.setPlainText(text.plainText());
+        post.setSnippet(text.snippet());
+        post.setWordCount(text.wordCount());
     }
 
-    private List<PostDTO> enrichPostsWithCounts(List<Post> posts) {
-        if (posts == null || posts.isEmpty()) {
-            return new ArrayList<>();
+    private JPQLQuery<PostSummaryDTO> selectSummaries() {
+        return PostSummaryProjection.select(queryFactory);
+    }
+
+    // 검색어는 한 번만 정규화해 조건과 개수 캐시 키에 같은 값을 쓴다. 비어 있으면 null
+    private static String normalizeKeyword(String searchKeyword) {
+        if (searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
         }
-        List<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
-
-        QComment comment = QComment.comment;
-        QStoredFile files = QStoredFile.storedFile;
-
-        Map<Long, Long> commentCountMap = queryFactory
-                .select(Projections.constructor(IdCountDTO.class, comment.post.id, comment.countDistinct().longValue()))
-                .from(comment).where(comment.post.id.in(postIds)).groupBy(comment.post.id)
-                .fetch().stream().collect(Collectors.toMap(IdCountDTO::getId, IdCountDTO::getCount));
-
-        Map<Long, Long> fileCountMap = queryFactory
-                .select(Projections.constructor(IdCountDTO.class, files.post.id, files.countDistinct().longValue()))
-                .from(files).where(files.post.id.in(postIds)).groupBy(files.post.id)
-                .fetch().stream().collect(Collectors.toMap(IdCountDTO::getId, IdCountDTO::getCount));
-
-        return posts.stream().map(p -> {
-            PostDTO dto = postMapper.toDto(p);
-            if (p.getAuthor() != null) dto.setUserId(p.getAuthor().getId());
-            dto.setUpdatedAt(p.getLastModifiedDate());
-            dto.setCommentCount(commentCountMap.getOrDefault(p.getId(), 0L));
-            dto.setFileCount(fileCountMap.getOrDefault(p.getId(), 0L));
-            return dto;
-        }).collect(Collectors.toList());
+        return searchKeyword.trim().toLowerCase(Locale.ROOT);
     }
 
-    private LocalDateTime calculateStartDateTime(TimePeriod period) {
-        LocalDateTime now = LocalDateTime.now();
-        switch (period) {
-            case DAILY:
-                return now.toLocalDate().atStartOfDay();
-            case WEEKLY:
-                return now.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
-            case MONTHLY:
-                return now.toLocalDate().withDayOfMonth(1).atStartOfDay();
-            default:
-                return now.toLocalDate().atStartOfDay();
+    // 목록 공통 조건 (블로그, 모든 하위 메뉴를 포함한 메뉴, 정규화한 검색어). post 컬럼만 쓰므로 조인이 필요 없으며, 대상 메뉴가 없으면 null
+    private BooleanBuilder buildListPredicate(Long blogId, Long menuId, String searchKeyword) {
+        QPost post = QPost.post;
+
+        BooleanBuilder whereClause = new BooleanBuilder();
+        whereClause.and(post.blogId.eq(blogId));
+        if (menuId != null) {
+            List<Long> targetMenuIds = menuTreeCache.getDescendantIds(blogId, menuId);
+            if (targetMenuIds.isEmpty()) return null;
+            whereClause.and(post.menu.id.in(targetMenuIds));
+        }
+        if (searchKeyword != null) {
+            whereClause.and(post.title.containsIgnoreCase(searchKeyword)
+                    .or(post.content.containsIgnoreCase(searchKeyword)));
         }
+        return whereClause;
     }
 
     private Menu findMenuByIdOrThrow(Long menuId) {
@@ -389,23 +398,13 @@ public class PostService {
         }).collect(Collectors.toList());
     }
 
-    private boolean tryIncrementViewCount(Post post, String clientIp, Authentication authentication) {
-        String redisKey = buildViewCountRedisKey(post.getId(), clientIp, authentication);
-        Boolean isNewView = redisTemplate.opsForValue().setIfAbsent(redisKey, "1", VIEW_COUNT_TTL_SECONDS, TimeUnit.SECONDS);
-
-        if (Boolean.TRUE.equals(isNewView)) {
-            int updatedRows = postRepository.incrementViewCount(post.getId());
-            if (updatedRows > 0) {
-                post.setViewCount(post.getViewCount() == null ? 1L : post.getViewCount() + 1);
-                return true;
-            }
-        }
-        return false;
+    private long recordView(Long postId, String clientIp, Authentication authentication) {
+        return viewCountService.recordView(postId, buildViewerId(clientIp, authentication));
     }
 
-    private String buildViewCountRedisKey(Long postId, String clientIp, Authentication authentication) {
+    private String buildViewerId(String clientIp, Authentication authentication) {
         return securityUtil.getCurrentUserId()
-                .map(userId -> String.format(VIEW_COUNT_KEY_PREFIX_USER, postId, userId, clientIp))
-                .orElseGet(() -> String.format(VIEW_COUNT_KEY_PREFIX_ANONYMOUS, postId, clientIp));
+                .map(userId -> String.format(VIEWER_ID_FORMAT_USER, userId, clientIp))
+                .orElseGet(() -> String.format(VIEWER_ID_FORMAT_ANONYMOUS, clientIp));
     }
 }
@@ -0,0 +1,89 @@
+package com.glowrise.service;
+
+import com.glowrise.domain.QPost;
+import com.glowrise.repository.PostRepository;
+import com.glowrise.service.event.PostChangedEvent;
+import com.glowrise.service.util.PostTextExtractor;
+import com.glowrise.service.util.PostTextExtractor.PostText;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 저장 시 계산하는 본문 파생 컬럼(plainText, snippet, wordCount)이 비어 있는 기존 게시글을 채운다.
+ * 기동 직후 한 번 실행되며, 게시글을 ID 순으로 나눠 배치마다 별도 트랜잭션으로 처리한다.
+ */
+@Service
+@Slf4j
+public class PostTextBackfillService {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final JPAQueryFactory queryFactory;
+    private final PostRepository postRepository;
+    private final PostTextExtractor postTextExtractor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PostTextBackfillService(JPAQueryFactory queryFactory, PostRepository postRepository,
+                                   PostTextExtractor postTextExtractor, PlatformTransactionManager transactionManager,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.queryFactory = queryFactory;
+        this.postRepository = postRepository;
+        this.postTextExtractor = postTextExtractor;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0L;
+        int filled = 0;
+        while (true) {
+            long fromId = lastId;
+            BatchResult result = transactionTemplate.execute(status -> backfillBatch(fromId));
+            if (result == null || result.lastId() == null) {
+                break;
+            }
+            lastId = result.lastId();
+            filled += result.filled();
+        }
+        if (filled > 0) {
+            log.info("게시글 본문 텍스트/요약 채우기 완료 (게시글 수: {})", filled);
+        }
+    }
+
+    private BatchResult backfillBatch(long afterId) {
+        QPost post = QPost.post;
+
+        List<Tuple> rows = queryFactory
+                .select(post.id, post.content)
+                .from(post)
+                .where(post.id.gt(afterId),
+                        post.plainText.isNull().or(post.snippet.isNull()).or(post.wordCount.isNull()))
+                .orderBy(post.id.asc())
+                .limit(BATCH_SIZE)
+                .fetch();
+        if (rows.isEmpty()) {
+            return new BatchResult(null, 0);
+        }
+        for (Tuple row : rows) {
+            PostText text = postTextExtractor.extract(row.get(post.content));
+            postRepository.updateText(row.get(post.id), text.plainText(), text.snippet(), text.wordCount());
+            // 일괄 update는 수정 시각을 바꾸지 않으므로 검색 색인에 직접 알린다.
+            eventPublisher.publishEvent(new PostChangedEvent(row.get(post.id)));
+        }
+        return new BatchResult(rows.get(rows.size() - 1).get(post.id), rows.size());
+    }
+
+    private record BatchResult(Long lastId, int filled) {
+    }
+}
@@ -1,91 +1,317 @@
 package com.glowrise.service;
 
-import com.glowrise.domain.Post;
 import com.glowrise.domain.QPost;
 import com.glowrise.domain.QUser;
 import com.glowrise.domain.User;
-import com.glowrise.service.dto.PostDTO;
+import com.glowrise.service.dto.PostSummaryDTO;
 import com.glowrise.service.dto.SearchResultDTO;
 import com.glowrise.service.dto.UserDTO;
-import com.glowrise.service.mapper.PostMapper;
 import com.glowrise.service.mapper.UserMapper;
+import com.glowrise.service.search.PostSearchHits;
+import com.glowrise.service.search.PostSearchIndex;
+import com.glowrise.service.search.SearchResultCache;
+import com.glowrise.service.util.PostSummaryProjection;
 import com.glowrise.service.util.QueryDslPagingUtil;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.RequiredArgsConstructor;
-import org.jsoup.Jsoup;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 통합 검색. 게시글 검색과 사용자 검색을 전용 스레드 풀에서 동시에 실행하고, 각 부분에 제한 시간을 둔다.
+ * 한 부분이 제한 시간을 넘기거나 실패하면 그 부분만 빈 결과로 채우고 degradedSections에 이름을 담아 응답한다.
+ * 부분별 소요 시간은 glowrise.search.leg.duration{leg, outcome}으로 기록한다.
+ * 결과는 SearchResultCache에 짧게 캐시하며, 빈 결과로 대신한 부분이 있는 응답은 캐시하지 않는다.
+ */
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
+@Slf4j
 public class SearchService {
 
-    private static final int SNIPPET_MAX_LENGTH = 150;
+    static final String LEG_POSTS = "posts";
+    static final String LEG_USERS = "users";
+
     private final JPAQueryFactory queryFactory;
-    private final PostMapper postMapper;
     private final UserMapper userMapper;
     private final QueryDslPagingUtil queryDslPagingUtil;
+    private final PostSearchIndex postSearchIndex;
+    private final PostIndexingService postIndexingService;
+    private final SearchResultCache searchResultCache;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate postTransaction;
+    private final TransactionTemplate userTransaction;
+    private final long postTimeoutMs;
+    private final long userTimeoutMs;
+
+    public SearchService(JPAQueryFactory queryFactory, UserMapper userMapper, QueryDslPagingUtil queryDslPagingUtil,
+                         PostSearchIndex postSearchIndex, PostIndexingService postIndexingService,
+                         SearchResultCache searchResultCache,
+                         MeterRegistry meterRegistry, PlatformTransactionManager transactionManager,
+                         @Value("${glowrise.search.executor.pool-size:8}") int poolSize,
+                         @Value("${glowrise.search.executor.queue-capacity:100}") int queueCapacity,
+                         @Value("${glowrise.search.post-timeout-ms:800}") long postTimeoutMs,
+                         @Value("${glowrise.search.user-timeout-ms:500}") long userTimeoutMs) {
+        this.queryFactory = queryFactory;
+        this.userMapper = userMapper;
+        this.queryDslPagingUtil = queryDslPagingUtil;
+        this.postSearchIndex = postSearchIndex;
+        this.postIndexingService = postIndexingService;
+        this.searchResultCache = searchResultCache;
+        this.meterRegistry = meterRegistry;
+        this.postTimeoutMs = postTimeoutMs;
+        this.userTimeoutMs = userTimeoutMs;
+        this.postTransaction = readOnlyTransaction(transactionManager, postTimeoutMs);
+        this.userTransaction = readOnlyTransaction(transactionManager, userTimeoutMs);
+
+        // 큐가 가득 차면 호출 스레드에서 기다리지 않고 거절해 그 부분만 빈 결과로 응답한다.
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "search-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "search");
+    }
 
-    public SearchResultDTO searchIntegrated(String query, Pageable pageable) {
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 정규화한 검색어와 두 페이지가 같은 요청은 짧은 시간 동안 캐시된 결과를 돌려준다.
+     *
+     * @param pageable     게시글 결과 페이지
+     * @param userPageable 사용자 결과 페이지 (게시글과 따로 넘길 수 있다)
+     */
+    public SearchResultDTO searchIntegrated(String query, Pageable pageable, Pageable userPageable) {
         if (!StringUtils.hasText(query)) {
-            return new SearchResultDTO(Page.empty(pageable), Page.empty(pageable));
+            return new SearchResultDTO(Page.empty(pageable), Page.empty(userPageable), List.of());
+        }
+        SearchResultCache.Key key = new SearchResultCache.Key(SearchResultCache.normalize(query), pageable, userPageable);
+        SearchResultDTO cached = searchResultCache.get(key);
+        if (cached != null) {
+            return cached;
         }
+        return compute(key).join();
+    }
 
-        QPost post = QPost.post;
-        QUser user = QUser.user;
+    /**
+     * 인기 검색어의 캐시 항목을 만료 전에 다시 계산한다. 결과를 기다리지 않으므로 스케줄러 스레드를 붙잡지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${glowrise.search.result-cache.refresh-interval-ms:5000}")
+    public void refreshHotQueries() {
+        for (SearchResultCache.Key key : searchResultCache.keysToRefresh()) {
+            compute(key);
+        }
+    }
 
-        // --- 게시글 검색 ---
-        BooleanBuilder postPredicate = buildPostPredicate(query, post, user); // FTS 적용된 Predicate 사용
-        JPAQuery<Post> postBaseQuery = queryFactory
-                .selectFrom(post)
-                .leftJoin(post.author, user).fetchJoin()
-                .where(postPredicate)
-                .orderBy(post.createdDate.desc()); // 필요시 Pageable의 sort 정보 활용 로직 추가
+    /**
+     * 두 부분을 동시에 실행하고, 둘 다 끝나면(성공, 실패, 제한 시간 초과 모두) 하나의 결과로 합쳐 캐시에 넣는다.
+     */
+    private CompletableFuture<SearchResultDTO> compute(SearchResultCache.Key key) {
+        long stamp = searchResultCache.stamp();
+        CompletableFuture<Page<PostSummaryDTO>> posts = submit(LEG_POSTS, postTimeoutMs,
+                () -> postTransaction.execute(status -> searchPosts(key.query(), key.posts())));
+        CompletableFuture<Page<UserDTO>> users = submit(LEG_USERS, userTimeoutMs,
+                () -> userTransaction.execute(status -> searchUsers(key.query(), key.users())));
 
-        Page<Post> postEntityPage = queryDslPagingUtil.getPage(postBaseQuery, pageable);
-        Page<PostDTO> postDtoPage = postEntityPage.map(this::mapPostToDtoWithSnippet);
+        return CompletableFuture.allOf(posts, users).handle((ignored, error) -> {
+            List<String> degraded = new ArrayList<>();
+            Page<PostSummaryDTO> postDtoPage = resultOrEmpty(LEG_POSTS, posts, key.posts(), degraded);
+            Page<UserDTO> userDtoPage = resultOrEmpty(LEG_USERS, users, key.users(), degraded);
+            SearchResultDTO result = new SearchResultDTO(postDtoPage, userDtoPage, degraded);
+            searchResultCache.put(key, result, stamp);
+            return result;
+        });
+    }
 
-        // --- 사용자 검색 ---
+    /**
+     * 초기 색인 전에는 DB에서 제목/작성자만으로 찾는다.
+     */
+    private Page<PostSummaryDTO> searchPosts(String query, Pageable pageable) {
+        return postIndexingService.isReady()
+                ? searchPostsFromIndex(query, pageable)
+                : searchPostsFromDatabase(query, pageable);
+    }
+
+    private Page<UserDTO> searchUsers(String query, Pageable pageable) {
+        QUser user = QUser.user;
         BooleanBuilder userPredicate = buildUserPredicate(query, user);
         JPAQuery<User> userBaseQuery = queryFactory
                 .selectFrom(user)
                 .where(userPredicate)
                 .orderBy(user.nickName.asc());
 
-        Page<User> userEntityPage = queryDslPagingUtil.getPage(userBaseQuery, pageable);
-        Page<UserDTO> userDtoPage = userEntityPage.map(userMapper::toDto);
+        JPAQuery<Long> userCountQuery = queryFactory
+                .select(user.count())
+                .from(user)
+                .where(userPredicate);
 
-        return new SearchResultDTO(postDtoPage, userDtoPage);
+        Page<User> userEntityPage = queryDslPagingUtil.getPage(userBaseQuery, pageable, userCountQuery);
+        return userEntityPage.map(userMapper::toDto);
     }
 
     /**
-     * 게시글 검색 조건 생성 (MySQL FTS 적용)
+     * 제출부터 완료(또는 제한 시간 초과)까지를 한 부분의 소요 시간으로 기록한다. 큐 대기 시간도 포함된다.
      */
-    private BooleanBuilder buildPostPredicate(String query, QPost post, QUser user) {
-        BooleanBuilder predicate = new BooleanBuilder();
+    private <T> CompletableFuture<T> submit(String leg, long timeoutMs, Supplier<T> task) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    long elapsed = System.nanoTime() - startedAt;
+                    String outcome = outcome(error);
+                    Timer.builder("glowrise.search.leg.duration")
+                            .tag("leg", leg)
+                            .tag("outcome", outcome)
+                            .description("통합 검색 부분별 소요 시간 (큐 대기 포함)")
+                            .register(meterRegistry)
+                            .record(elapsed, TimeUnit.NANOSECONDS);
+                    log.debug("통합 검색 {} 완료 (결과: {}, 소요 시간: {}ms)", leg, outcome,
+                            TimeUnit.NANOSECONDS.toMillis(elapsed));
+                });
+    }
 
-        // 제목 검색 (기존 방식 유지)
-        predicate.or(post.title.containsIgnoreCase(query));
+    /**
+     * 이미 끝난 부분의 결과. 실패했으면 빈 페이지로 대신하고 degraded에 이름을 담는다.
+     */
+    private <T> Page<T> resultOrEmpty(String leg, CompletableFuture<Page<T>> future, Pageable pageable, List<String> degraded) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            degraded.add(leg);
+            log.warn("통합 검색 {} 부분을 빈 결과로 대신합니다. (원인: {})", leg, outcome(e));
+            return Page.empty(pageable);
+        }
+    }
+
+    private static String outcome(Throwable error) {
+        if (error == null) {
+            return "success";
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (cause instanceof RejectedExecutionException) {
+            return "rejected";
+        }
+        return "error";
+    }
+
+    /**
+     * 제한 시간을 트랜잭션 시간 제한으로도 걸어, 응답을 포기한 뒤에도 오래 도는 쿼리는 JDBC 쿼리 타임아웃으로 끊는다.
+     */
+    private static TransactionTemplate readOnlyTransaction(PlatformTransactionManager transactionManager, long timeoutMs) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs + 999)));
+        return template;
+    }
+
+    /**
+     * 검색 색인에서 현재 페이지의 게시글 ID(관련도 순)와 전체 개수, 강조 구간을 얻고,
+     * 목록 표시용 요약은 ID로 한 번에 조회해 색인 순서대로 정렬한다.
+     */
+    private Page<PostSummaryDTO> searchPostsFromIndex(String query, Pageable pageable) {
+        PostSearchHits result = postSearchIndex.search(query, (int) pageable.getOffset(), pageable.getPageSize());
+        if (result.hits().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.totalHits());
+        }
+
+        QPost post = QPost.post;
+        Map<Long, PostSummaryDTO> summaries = PostSummaryProjection.select(queryFactory)
+                .where(post.id.in(result.postIds()))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(PostSummaryDTO::getId, Function.identity()));
+
+        List<PostSummaryDTO> content = new ArrayList<>(result.hits().size());
+        List<Long> missing = new ArrayList<>();
+        for (PostSearchHits.Hit hit : result.hits()) {
+            PostSummaryDTO summary = summaries.get(hit.postId());
+            if (summary == null) {
+                missing.add(hit.postId());
+                continue;
+            }
+            summary.setTitleHighlight(hit.titleHighlight());
+            summary.setContentHighlight(StringUtils.hasText(hit.bodyHighlight()) ? hit.bodyHighlight() : null);
+            content.add(summary);
+        }
+        if (!missing.isEmpty()) {
+            // 삭제 이벤트를 놓친 게시글은 색인에서도 지운다.
+            postIndexingService.remove(missing);
+        }
+        return new PageImpl<>(content, pageable, result.totalHits() - missing.size());
+    }
 
-        // 내용 검색 (MySQL Full-Text Search 사용)
-        // predicate.or(post.content.containsIgnoreCase(query)); // 기존 방식 주석 처리 또는 삭제
-        predicate.or(mysqlMatchAgainst(post.content, query)); // FTS 함수 호출로 변경
+    private Page<PostSummaryDTO> searchPostsFromDatabase(String query, Pageable pageable) {
+        QPost post = QPost.post;
+        QUser author = PostSummaryProjection.AUTHOR;
 
-        // 작성자 닉네임 검색
-        predicate.or(post.author.nickName.containsIgnoreCase(query));
+        BooleanBuilder postPredicate = buildPostPredicate(query, post, author);
+        JPQLQuery<PostSummaryDTO> postBaseQuery = PostSummaryProjection.select(queryFactory)
+                .where(postPredicate)
+                .orderBy(post.createdDate.desc());
 
-        // 작성자 이메일 검색
-        predicate.or(post.author.email.containsIgnoreCase(query));
+        JPAQuery<Long> postCountQuery = queryFactory
+                .select(post.count())
+                .from(post)
+                .join(post.author, author)
+                .where(postPredicate);
 
+        return queryDslPagingUtil.getPage(postBaseQuery, pageable, postCountQuery);
+    }
+
+    /**
+     * 게시글 검색 조건 생성 (색인을 쓸 수 없을 때만 사용)
+     */
+    private BooleanBuilder buildPostPredicate(String query, QPost post, QUser author) {
+        BooleanBuilder predicate = new BooleanBuilder();
+        predicate.or(post.title.containsIgnoreCase(query));
+        predicate.or(author.nickName.containsIgnoreCase(query));
+        predicate.or(author.email.containsIgnoreCase(query));
         return predicate;
     }
 
@@ -98,40 +324,4 @@ public class SearchService {
         predicate.or(user.email.containsIgnoreCase(query));
         return predicate;
     }
-
-    /**
-     * Post 엔티티 -> PostDTO 변환 (Jsoup 스니펫 생성 포함)
-     */
-    private PostDTO mapPostToDtoWithSnippet(Post post) {
-        PostDTO dto = postMapper.toDto(post);
-        String originalContent = post.getContent();
-        if (StringUtils.hasText(originalContent)) {
-            String plainText = Jsoup.parse(originalContent).text();
-            String snippet = plainText.length() > SNIPPET_MAX_LENGTH
-                    ? plainText.substring(0, SNIPPET_MAX_LENGTH) + "..."
-                    : plainText;
-            dto.setContentSnippet(snippet);
-        } else {
-            dto.setContentSnippet("");
-        }
-        return dto;
-    }
-
-    /**
-     * MySQL의 MATCH AGAINST 구문을 QueryDSL에서 사용하기 위한 Helper 메소드.
-     * (BOOLEAN MODE 사용 예시)
-     *
-     * @param columnPath 검색 대상 컬럼 (예: QPost.post.content)
-     * @param searchTerm 검색어
-     * @return QueryDSL BooleanExpression
-     */
-    private BooleanExpression mysqlMatchAgainst(StringPath columnPath, String searchTerm) {
-        // BOOLEAN MODE는 검색어 구문에 따라 동작이 달라짐 (+, -, *, "" 등 활용 가능)
-        // 여기서는 기본적인 단어 포함 검색을 위해 검색어를 그대로 전달하는 예시
-        // 필요시 searchTerm 가공 필요 (예: '+' 추가하여 필수 단어 지정 등)
-        // 예: return Expressions.booleanTemplate("MATCH({0}) AGAINST({1} IN BOOLEAN MODE)", columnPath, "+" + searchTerm + "*");
-        return Expressions.booleanTemplate("MATCH({0}) AGAINST({1} IN BOOLEAN MODE)",
-                columnPath,
-                searchTerm); // 검색어를 그대로 전달
-    }
-}
\ No newline at end of file
+}
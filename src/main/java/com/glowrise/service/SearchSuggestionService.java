@@ -0,0 +1,302 @@
+package com.glowrise.service;
+
+import com.glowrise.domain.QBlog;
+import com.glowrise.domain.QMenu;
+import com.glowrise.domain.QPost;
+import com.glowrise.domain.QUser;
+import com.glowrise.service.dto.SuggestionDTO;
+import com.glowrise.service.event.BlogChangedEvent;
+import com.glowrise.service.event.PostChangedEvent;
+import com.glowrise.service.event.UserChangedEvent;
+import com.glowrise.service.search.Suggestion;
+import com.glowrise.service.search.SuggestionTrie;
+import com.glowrise.service.search.SuggestionType;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 검색창 자동완성. 게시글 제목, 사용자 닉네임, 블로그 이름을 메모리의 SuggestionTrie에 두고 접두어로 찾는다.
+ * 게시글/사용자/블로그 변경 이벤트는 짧은 주기로 해당 항목만 다시 읽어 반영하고,
+ * 인기도(조회수)는 계속 바뀌므로 주기적으로 전체를 새로 만들어 교체한다.
+ * 인기도: 게시글은 조회수, 사용자는 작성한 게시글 조회수 합, 블로그는 블로그 게시글 조회수 합.
+ */
+@Service
+@Slf4j
+public class SearchSuggestionService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxResults;
+    private final Set<Long> dirtyPostIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyBlogIds = ConcurrentHashMap.newKeySet();
+    private volatile SuggestionTrie trie;
+
+    public SearchSuggestionService(JPAQueryFactory queryFactory, PlatformTransactionManager transactionManager,
+                                   @Value("${glowrise.suggest.max-results:10}") int maxResults) {
+        this.queryFactory = queryFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.maxResults = maxResults;
+        this.trie = new SuggestionTrie(maxResults);
+    }
+
+    public List<SuggestionDTO> suggest(String query, int limit) {
+        return trie.suggest(query, Math.min(limit, maxResults)).stream()
+                .map(suggestion -> new SuggestionDTO(suggestion.type(), suggestion.id(), suggestion.text(),
+                        suggestion.blogUrl(), suggestion.menuId()))
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        dirtyPostIds.add(event.getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        dirtyUserIds.add(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogChanged(BlogChangedEvent event) {
+        dirtyBlogIds.add(event.getBlogId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 전체 항목과 인기도를 새로 읽어 트라이를 교체한다. 교체 전까지는 기존 트라이로 응답한다.
+     */
+    @Scheduled(fixedDelayString = "${glowrise.suggest.rebuild-interval-ms:600000}",
+            initialDelayString = "${glowrise.suggest.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            SuggestionTrie rebuilt = new SuggestionTrie(maxResults);
+            QPost post = QPost.post;
+            QUser user = QUser.user;
+            QBlog blog = QBlog.blog;
+            loadAll(afterId -> loadPosts(post.id.gt(afterId), BATCH_SIZE), rebuilt);
+            loadAll(afterId -> loadUsers(user.id.gt(afterId), BATCH_SIZE), rebuilt);
+            loadAll(afterId -> loadBlogs(blog.id.gt(afterId), BATCH_SIZE), rebuilt);
+            trie = rebuilt;
+            log.info("자동완성 색인 재구성 완료 (항목 수: {}, 소요 시간: {}ms)",
+                    rebuilt.size(), System.currentTimeMillis() - startedAt);
+        } catch (DataAccessException e) {
+            log.warn("자동완성 색인 재구성 실패, 기존 색인을 계속 사용합니다.", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${glowrise.suggest.refresh-interval-ms:1000}")
+    public synchronized void flush() {
+        if (dirtyPostIds.isEmpty() && dirtyUserIds.isEmpty() && dirtyBlogIds.isEmpty()) {
+            return;
+        }
+        List<Long> posts = drain(dirtyPostIds);
+        List<Long> users = drain(dirtyUserIds);
+        List<Long> blogs = drain(dirtyBlogIds);
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(trie, posts, users, blogs));
+        } catch (DataAccessException e) {
+            dirtyPostIds.addAll(posts);
+            dirtyUserIds.addAll(users);
+            dirtyBlogIds.addAll(blogs);
+            log.warn("자동완성 색인 반영 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private void apply(SuggestionTrie target, List<Long> posts, List<Long> users, List<Long> blogs) {
+        QPost post = QPost.post;
+        QUser user = QUser.user;
+        QBlog blog = QBlog.blog;
+        Set<Long> postIds = new HashSet<>(posts);
+        Set<Long> userIds = new HashSet<>(users);
+
+        if (!blogs.isEmpty()) {
+            List<Suggestion> found = loadBlogs(blog.id.in(blogs), blogs.size());
+            Set<Long> deleted = replace(target, SuggestionType.BLOG, blogs, found);
+            if (!deleted.isEmpty()) {
+                // 블로그와 함께 삭제된 게시글은 ID를 알 수 없으므로 블로그 ID로 지운다.
+                target.removeIf(suggestion -> suggestion.type() == SuggestionType.POST
+                        && deleted.contains(suggestion.blogId()));
+            }
+            // 블로그 주소가 바뀌면 그 블로그 게시글과 주인 사용자 항목의 이동 경로도 바뀐다.
+            postIds.addAll(queryFactory.select(post.id).from(post).where(post.menu.blog.id.in(blogs)).fetch());
+            userIds.addAll(queryFactory.select(blog.user.id).from(blog).where(blog.id.in(blogs)).fetch());
+        }
+        for (List<Long> chunk : chunks(postIds)) {
+            replace(target, SuggestionType.POST, chunk, loadPosts(post.id.in(chunk), chunk.size()));
+        }
+        for (List<Long> chunk : chunks(userIds)) {
+            replace(target, SuggestionType.USER, chunk, loadUsers(user.id.in(chunk), chunk.size()));
+        }
+    }
+
+    /**
+     * 다시 읽은 항목으로 교체하고, 읽히지 않은(삭제된) ID는 제거한다. 제거한 ID를 반환한다.
+     */
+    private Set<Long> replace(SuggestionTrie target, SuggestionType type, Collection<Long> ids, List<Suggestion> found) {
+        Set<Long> missing = new HashSet<>(ids);
+        for (Suggestion suggestion : found) {
+            target.put(suggestion);
+            missing.remove(suggestion.id());
+        }
+        missing.forEach(id -> target.remove(type, id));
+        return missing;
+    }
+
+    private void loadAll(Function<Long, List<Suggestion>> loader, SuggestionTrie target) {
+        long lastId = 0L;
+        while (true) {
+            long afterId = lastId;
+            List<Suggestion> batch = transactionTemplate.execute(status -> loader.apply(afterId));
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            batch.forEach(target::put);
+            lastId = batch.get(batch.size() - 1).id();
+            if (batch.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    private List<Suggestion> loadPosts(Predicate condition, int limit) {
+        QPost post = QPost.post;
+        QMenu menu = QMenu.menu;
+        QBlog blog = QBlog.blog;
+
+        List<Tuple> rows = queryFactory
+                .select(post.id, post.title, post.viewCount.coalesce(0L), menu.id, blog.id, blog.url)
+                .from(post)
+                .join(post.menu, menu)
+                .join(menu.blog, blog)
+                .where(condition)
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch();
+
+        List<Suggestion> suggestions = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            suggestions.add(new Suggestion(SuggestionType.POST, row.get(post.id), row.get(post.title),
+                    row.get(blog.id), row.get(blog.url), row.get(menu.id), row.get(2, Long.class)));
+        }
+        return suggestions;
+    }
+
+    private List<Suggestion> loadUsers(Predicate condition, int limit) {
+        QUser user = QUser.user;
+        QBlog blog = QBlog.blog;
+        QPost post = QPost.post;
+
+        List<Tuple> rows = queryFactory
+                .select(user.id, user.nickName, blog.id, blog.url)
+                .from(user)
+                .leftJoin(user.blog, blog)
+                .where(condition)
+                .orderBy(user.id.asc())
+                .limit(limit)
+                .fetch();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = rows.stream().map(row -> row.get(user.id)).toList();
+        Map<Long, Long> views = sumViews(queryFactory
+                .select(post.author.id, post.viewCount.sum())
+                .from(post)
+                .where(post.author.id.in(ids))
+                .groupBy(post.author.id)
+                .fetch());
+
+        List<Suggestion> suggestions = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Long userId = row.get(user.id);
+            suggestions.add(new Suggestion(SuggestionType.USER, userId, row.get(user.nickName),
+                    row.get(blog.id), row.get(blog.url), null, views.getOrDefault(userId, 0L)));
+        }
+        return suggestions;
+    }
+
+    private List<Suggestion> loadBlogs(Predicate condition, int limit) {
+        QBlog blog = QBlog.blog;
+        QMenu menu = QMenu.menu;
+        QPost post = QPost.post;
+
+        List<Tuple> rows = queryFactory
+                .select(blog.id, blog.title, blog.url)
+                .from(blog)
+                .where(condition)
+                .orderBy(blog.id.asc())
+                .limit(limit)
+                .fetch();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = rows.stream().map(row -> row.get(blog.id)).toList();
+        Map<Long, Long> views = sumViews(queryFactory
+                .select(menu.blog.id, post.viewCount.sum())
+                .from(post)
+                .join(post.menu, menu)
+                .where(menu.blog.id.in(ids))
+                .groupBy(menu.blog.id)
+                .fetch());
+
+        List<Suggestion> suggestions = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Long blogId = row.get(blog.id);
+            suggestions.add(new Suggestion(SuggestionType.BLOG, blogId, row.get(blog.title),
+                    blogId, row.get(blog.url), null, views.getOrDefault(blogId, 0L)));
+        }
+        return suggestions;
+    }
+
+    private static Map<Long, Long> sumViews(List<Tuple> rows) {
+        return rows.stream()
+                .filter(row -> row.get(1, Long.class) != null)
+                .collect(Collectors.toMap(row -> row.get(0, Long.class), row -> row.get(1, Long.class)));
+    }
+
+    private static List<Long> drain(Set<Long> dirty) {
+        List<Long> drained = new ArrayList<>(dirty);
+        dirty.removeAll(drained);
+        return drained;
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += BATCH_SIZE) {
+            chunks.add(all.subList(from, Math.min(from + BATCH_SIZE, all.size())));
+        }
+        return chunks;
+    }
+}
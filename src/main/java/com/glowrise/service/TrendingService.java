@@ -0,0 +1,174 @@
+package com.glowrise.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.glowrise.domain.enumerate.TimePeriod;
+import com.glowrise.service.event.PostActivityEvent;
+import com.glowrise.service.util.PostActivityCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 최근 활동 기반 트렌딩 게시글 순위 (LAST_1H / LAST_24H / LAST_7D).
+ * 게시글별 링 버퍼에 조회/댓글을 기록하고, 오래된 활동일수록 지수적으로 감쇠한 점수로 상위 목록을 메모리에 유지한다.
+ * 누적 조회수를 쓰지 않으므로 과거에 많이 본 글이 계속 상위에 남거나 기간 경계에서 순위가 급변하지 않는다.
+ * 활동 기록은 인스턴스 메모리에만 있으므로 재시작 후에는 새 활동부터 다시 집계된다.
+ */
+@Service
+@Slf4j
+public class TrendingService {
+
+    private static final double VIEW_WEIGHT = 3;
+    private static final double COMMENT_WEIGHT = 5;
+    private static final long IDLE_EVICTION_MINUTES = PostActivityCounter.HOUR_SLOTS * 60L;
+
+    // 추적 게시글 수 상한. 넘으면 활동이 드문 게시글부터 빠진다 (다시 활동이 생기면 새로 집계).
+    private final Cache<Long, PostActivityCounter> counters;
+    private final Set<Long> dirtyPostIds = ConcurrentHashMap.newKeySet();
+    private volatile Map<TimePeriod, List<ScoredPost>> topPosts = new EnumMap<>(TimePeriod.class);
+    private long lastFullRefreshAt;
+
+    @Value("${glowrise.trending.top-size:100}")
+    private int topSize;
+
+    @Value("${glowrise.trending.full-refresh-interval-ms:60000}")
+    private long fullRefreshIntervalMs;
+
+    public TrendingService(@Value("${glowrise.trending.max-tracked-posts:100000}") long maxTrackedPosts) {
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxTrackedPosts)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostActivity(PostActivityEvent event) {
+        // 작성/수정은 트렌딩 점수에 반영하지 않는다. 활동 종류가 추가되면 컴파일 오류로 드러나도록 모든 값을 나열한다.
+        int views = switch (event.getType()) {
+            case VIEW -> 1;
+            case COMMENT_CREATED, COMMENT_DELETED, POST_SAVED -> 0;
+        };
+        int comments = switch (event.getType()) {
+            case COMMENT_CREATED -> 1;
+            case COMMENT_DELETED -> -1;
+            case VIEW, POST_SAVED -> 0;
+        };
+        if (views != 0 || comments != 0) {
+            record(event.getPostId(), views, comments);
+        }
+    }
+
+    /**
+     * 이동 구간의 상위 게시글 ID를 점수 내림차순으로 반환한다. (마지막 갱신 시점 기준)
+     */
+    public List<Long> getTopPostIds(TimePeriod period, int limit) {
+        if (!period.isRolling()) {
+            throw new IllegalArgumentException("트렌딩 순위는 이동 구간만 지원합니다: " + period);
+        }
+        return topPosts.getOrDefault(period, List.of()).stream()
+                .limit(limit)
+                .map(ScoredPost::postId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 더 이상 존재하지 않는 게시글을 집계에서 제외한다. 다음 갱신 때 상위 목록에서도 빠진다.
+     */
+    public void remove(Collection<Long> postIds) {
+        counters.invalidateAll(postIds);
+        dirtyPostIds.addAll(postIds);
+    }
+
+    /**
+     * 상위 목록 갱신. 감쇠는 모든 게시글에 같은 비율로 적용되므로 평소에는 직전 상위 목록과 새 활동이 있던 게시글만 다시 계산하고,
+     * 버킷이 구간 밖으로 밀려나며 생기는 순위 변화는 주기적인 전체 재계산으로 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${glowrise.trending.refresh-interval-ms:10000}")
+    public synchronized void refresh() {
+        long nowMillis = System.currentTimeMillis();
+        long nowMinute = nowMillis / 60_000;
+        boolean fullRefresh = nowMillis - lastFullRefreshAt >= fullRefreshIntervalMs;
+
+        Set<Long> candidates = new HashSet<>();
+        List<Long> dirty = new ArrayList<>(dirtyPostIds);
+        dirtyPostIds.removeAll(dirty);
+        if (fullRefresh) {
+            counters.asMap().entrySet().removeIf(entry -> nowMinute - entry.getValue().getLastActivityMinute() >= IDLE_EVICTION_MINUTES);
+            candidates.addAll(counters.asMap().keySet());
+            lastFullRefreshAt = nowMillis;
+        } else {
+            if (dirty.isEmpty()) {
+                return;
+            }
+            candidates.addAll(dirty);
+            topPosts.values().forEach(posts -> posts.forEach(post -> candidates.add(post.postId())));
+        }
+
+        Map<TimePeriod, List<ScoredPost>> refreshed = new EnumMap<>(TimePeriod.class);
+        for (TimePeriod period : TimePeriod.values()) {
+            if (period.isRolling()) {
+                refreshed.put(period, selectTop(period, candidates, nowMinute));
+            }
+        }
+        topPosts = refreshed;
+        log.debug("트렌딩 순위 갱신 (전체 재계산: {}, 대상 게시글 수: {}, 추적 게시글 수: {})",
+                fullRefresh, candidates.size(), counters.estimatedSize());
+    }
+
+    private void record(Long postId, int views, int comments) {
+        counters.get(postId, id -> new PostActivityCounter())
+                .record(System.currentTimeMillis() / 60_000, views, comments);
+        dirtyPostIds.add(postId);
+    }
+
+    // 크기가 topSize인 최소 힙으로 상위 게시글만 남긴다.
+    private List<ScoredPost> selectTop(TimePeriod period, Collection<Long> candidates, long nowMinute) {
+        PriorityQueue<ScoredPost> heap = new PriorityQueue<>(Comparator.comparingDouble(ScoredPost::score));
+        for (Long postId : candidates) {
+            PostActivityCounter counter = counters.getIfPresent(postId);
+            if (counter == null) {
+                continue;
+            }
+            double score = score(counter, period, nowMinute);
+            if (score <= 0) {
+                continue;
+            }
+            if (heap.size() < topSize) {
+                heap.offer(new ScoredPost(postId, score));
+            } else if (heap.peek().score() < score) {
+                heap.poll();
+                heap.offer(new ScoredPost(postId, score));
+            }
+        }
+        List<ScoredPost> sorted = new ArrayList<>(heap);
+        sorted.sort(Comparator.comparingDouble(ScoredPost::score).reversed());
+        return List.copyOf(sorted);
+    }
+
+    // 반감기: 최근 1시간 20분, 최근 24시간 6시간, 최근 7일 2일
+    private double score(PostActivityCounter counter, TimePeriod period, long nowMinute) {
+        return switch (period) {
+            case LAST_1H -> counter.decayedScoreByMinute(nowMinute, 60, 20, VIEW_WEIGHT, COMMENT_WEIGHT);
+            case LAST_24H -> counter.decayedScoreByHour(nowMinute / 60, 24, 6, VIEW_WEIGHT, COMMENT_WEIGHT);
+            case LAST_7D -> counter.decayedScoreByHour(nowMinute / 60, 24 * 7, 48, VIEW_WEIGHT, COMMENT_WEIGHT);
+            case HOURLY, DAILY, WEEKLY, MONTHLY -> 0; // 달력 구간은 트렌딩 대상이 아님
+        };
+    }
+
+    private record ScoredPost(Long postId, double score) {
+    }
+}
@@ -7,12 +7,14 @@ import com.glowrise.domain.enumerate.SITE;
 import com.glowrise.repository.BlogRepository;
 import com.glowrise.repository.UserRepository;
 import com.glowrise.service.dto.UserDTO;
+import com.glowrise.service.event.UserChangedEvent;
 import com.glowrise.service.exception.DuplicateEmailException;
 import com.glowrise.service.exception.DuplicateUsernameException;
 import com.glowrise.service.exception.InvalidTokenException;
 import com.glowrise.service.mapper.UserMapper;
 import com.glowrise.service.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -36,6 +38,7 @@ public class UserService {
     private static final long ACCESS_TOKEN_VALIDITY_MS = 60 * 60 * 1000L;
     private final UserMapper userMapper;
     private final SecurityUtil securityUtil; // Added
+    private final ApplicationEventPublisher eventPublisher;
     private static final long REFRESH_TOKEN_VALIDITY_MS = 7 * 24 * 60 * 60 * 1000L;
 
     @Transactional
@@ -48,6 +51,7 @@ public class UserService {
         user.setSite(SITE.LOCAL);
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
         return userMapper.toDtoWithoutPassword(savedUser);
     }
 
@@ -74,6 +78,7 @@ public class UserService {
         if (StringUtils.hasText(dto.getNickName()) && !Objects.equals(user.getNickName(), dto.getNickName())) {
             String trimmedNickname = validateAndTrimNickname(dto.getNickName(), user.getId());
             user.setNickName(trimmedNickname);
+            eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
         }
 
         if (user.getSite() == SITE.LOCAL && StringUtils.hasText(dto.getPassword())) {
@@ -91,6 +96,7 @@ public class UserService {
                     if (dto.getPassword() != null && !dto.getPassword().isEmpty() && existingUser.getSite() == SITE.LOCAL) {
                         existingUser.setPassword(passwordEncoder.encode(dto.getPassword()));
                     }
+                    eventPublisher.publishEvent(new UserChangedEvent(existingUser.getId()));
                     return existingUser;
                 })
                 .map(userMapper::toDtoWithoutPassword);
@@ -123,6 +129,7 @@ public class UserService {
         User user = securityUtil.getCurrentUserOrThrow();
         String trimmedNickname = validateAndTrimNickname(newNickname, user.getId());
         user.setNickName(trimmedNickname);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
     }
 
     private void validateUserCreation(UserDTO dto) {
@@ -0,0 +1,273 @@
+package com.glowrise.service;
+
+import com.glowrise.domain.enumerate.PostActivityType;
+import com.glowrise.repository.PostRepository;
+import com.glowrise.service.event.PostActivityEvent;
+import com.glowrise.service.util.ViewCountBuffer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회수 중복 판별 및 write-behind 처리.
+ * 조회 요청마다 UPDATE를 실행하지 않고 미반영 증가분을 모아 두었다가 주기적으로 일괄 반영한다.
+ */
+@Service
+@Slf4j
+public class ViewCountService {
+
+    /**
+     * 중복 조회 판별 방식
+     * KEY: 조회자마다 TTL 키를 생성 (정확하지만 조회자 수만큼 키가 늘어남)
+     * HLL: 조회자 키 없이 게시글별·TTL 구간별 HyperLogLog(view:hll:{postId}:{구간})에 PFADD하고,
+     *      레지스터가 바뀐 경우(PFADD가 1을 반환)만 새 조회로 센다. 게시글·구간당 키 하나(최대 약 12KB)로 끝나는 대신 근사치다.
+     *      - 새 조회자가 이미 더 큰 값을 가진 레지스터에 떨어지면 누락된다. 한 구간의 조회자 수를 n, 레지스터 수를 m(16384)이라 하면
+     *        누락 비율은 대략 n / (2m) (n이 m보다 충분히 작을 때)로, 구간당 조회자 100명이면 약 0.3%, 1000명이면 약 3%이고
+     *        n이 m에 가까워지면 절반 가까이까지 커진다. 조회자가 그만큼 몰리는 게시글에는 KEY/SCRIPT 모드를 쓴다.
+     *      - 구간 경계에서 초기화되므로 같은 조회자가 TTL보다 짧은 간격으로 두 구간에 걸쳐 조회하면 두 번 센다.
+     *      - 정확한 판별이 필요하면 키 수 대신 크기가 고정된 Bloom 필터(RedisBloom BF.ADD)가 대안이다.
+     * SCRIPT: Lua 스크립트로 중복 판별과 미반영 증가분(Redis Hash) 누적을 한 번의 호출로 원자적으로 처리
+     */
+    public enum DedupeMode {
+        KEY,
+        HLL,
+        SCRIPT,
+    }
+
+    private static final int FLUSH_CHUNK_SIZE = 500;
+    private static final String VIEW_KEY_FORMAT = "view:post:%d:%s";
+    private static final String HLL_BUCKET_KEY_FORMAT = "view:hll:%d:%d";
+    private static final String HLL_UNIQUE_KEY_FORMAT = "view:hll:post:%d:unique";
+    private static final String PENDING_HASH_KEY = "view:pending";
+
+    // KEYS[1]: 조회자 키, KEYS[2]: 미반영 증가분 Hash / ARGV[1]: TTL(초), ARGV[2]: 게시글 ID
+    // 반환: {새 조회 여부(1/0), 미반영 증가분}
+    private static final RedisScript<List> RECORD_VIEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then " +
+                    "  return {1, redis.call('HINCRBY', KEYS[2], ARGV[2], 1)} " +
+                    "end " +
+                    "return {0, tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0')}",
+            List.class);
+
+    // KEYS[1]: 미반영 증가분 Hash. 조회와 삭제를 원자적으로 처리해 여러 인스턴스가 동시에 비워도 중복 반영되지 않는다.
+    private static final RedisScript<List> DRAIN_PENDING_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "return entries",
+            List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer flushLagTimer;
+    private final Timer flushDurationTimer;
+    private final DistributionSummary flushBatchSize;
+
+    @Value("${glowrise.view-count.dedupe-mode:KEY}")
+    private DedupeMode dedupeMode;
+
+    @Value("${glowrise.view-count.dedupe-ttl-seconds:300}")
+    private long dedupeTtlSeconds;
+
+    @Value("${glowrise.view-count.unique-viewer-ttl-days:30}")
+    private long uniqueViewerTtlDays;
+
+    public ViewCountService(RedisTemplate<String, String> redisTemplate, ViewCountBuffer viewCountBuffer,
+                            PostRepository postRepository, PlatformTransactionManager transactionManager,
+                            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.viewCountBuffer = viewCountBuffer;
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.flushLagTimer = Timer.builder("glowrise.viewcount.flush.lag")
+                .description("가장 오래된 미반영 조회수가 DB에 반영되기까지 걸린 시간")
+                .register(meterRegistry);
+        this.flushDurationTimer = Timer.builder("glowrise.viewcount.flush.duration")
+                .description("조회수 일괄 반영 소요 시간")
+                .register(meterRegistry);
+        this.flushBatchSize = DistributionSummary.builder("glowrise.viewcount.flush.batch.size")
+                .description("한 번의 반영에 포함된 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("glowrise.viewcount.pending.posts", viewCountBuffer, ViewCountBuffer::size)
+                .description("미반영 조회수가 남아 있는 게시글 수 (로컬 버퍼)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회를 기록한다. 일정 시간 내 같은 조회자의 재조회는 집계하지 않는다.
+     *
+     * @param postId   게시글 ID
+     * @param viewerId 조회자 식별값 (사용자 ID, IP 조합)
+     * @return 이번 조회까지 포함한, 아직 DB에 반영되지 않은 조회수 증가분
+     */
+    public long recordView(Long postId, String viewerId) {
+        if (dedupeMode == DedupeMode.SCRIPT) {
+            return recordViewWithScript(postId, viewerId);
+        }
+
+        boolean isNewView = dedupeMode == DedupeMode.HLL
+                ? addToViewerBucket(postId, viewerId)
+                : addViewerKey(postId, viewerId);
+        if (isNewView) {
+            viewCountBuffer.increment(postId);
+            eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.VIEW));
+        }
+        return viewCountBuffer.getPendingCount(postId);
+    }
+
+    /**
+     * HLL 모드에서 최근 조회자 수(근사치)를 반환한다. 그 외 모드에서는 null.
+     */
+    public Long getUniqueViewerCount(Long postId) {
+        if (dedupeMode != DedupeMode.HLL) {
+            return null;
+        }
+        return redisTemplate.opsForHyperLogLog().size(String.format(HLL_UNIQUE_KEY_FORMAT, postId));
+    }
+
+    public long getPendingCount(Long postId) {
+        if (dedupeMode == DedupeMode.SCRIPT) {
+            Object pending = redisTemplate.opsForHash().get(PENDING_HASH_KEY, String.valueOf(postId));
+            return pending != null ? Long.parseLong(pending.toString()) : 0L;
+        }
+        return viewCountBuffer.getPendingCount(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${glowrise.view-count.flush-interval-ms:5000}")
+    public void flushPendingViewCounts() {
+        long oldestPendingAt = viewCountBuffer.getOldestPendingAt();
+        Map<Long, Long> localDeltas = viewCountBuffer.drain();
+        Map<Long, Long> redisDeltas = dedupeMode == DedupeMode.SCRIPT ? drainRedisPending() : Map.of();
+        if (localDeltas.isEmpty() && redisDeltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>(localDeltas);
+        redisDeltas.forEach((postId, delta) -> deltas.merge(postId, delta, Long::sum));
+
+        long startedAt = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyDeltas(deltas));
+        } catch (RuntimeException e) {
+            log.error("조회수 일괄 반영 실패. 증가분을 되돌립니다. (게시글 수: {})", deltas.size(), e);
+            viewCountBuffer.restore(localDeltas);
+            restoreRedisPending(redisDeltas);
+            return;
+        }
+        flushDurationTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        flushBatchSize.record(deltas.size());
+        if (oldestPendingAt > 0) {
+            flushLagTimer.record(Duration.ofMillis(System.currentTimeMillis() - oldestPendingAt));
+        }
+        log.debug("조회수 일괄 반영 완료 (게시글 수: {})", deltas.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPendingViewCounts();
+    }
+
+    private boolean addViewerKey(Long postId, String viewerId) {
+        String key = String.format(VIEW_KEY_FORMAT, postId, viewerId);
+        Boolean isNewView = redisTemplate.opsForValue().setIfAbsent(key, "1", dedupeTtlSeconds, TimeUnit.SECONDS);
+        return Boolean.TRUE.equals(isNewView);
+    }
+
+    // 현재 TTL 구간의 HLL에 조회자를 넣고, 같은 파이프라인에서 순 조회자 수 집계용 HLL(표준 오차 약 0.81%)도 갱신한다.
+    // 구간 키는 PFADD마다 TTL 길이로 만료를 다시 걸어, 마지막 조회 이후에도 구간이 끝날 때까지는 남는다.
+    private boolean addToViewerBucket(Long postId, String viewerId) {
+        long bucket = System.currentTimeMillis() / 1000 / dedupeTtlSeconds;
+        String bucketKey = String.format(HLL_BUCKET_KEY_FORMAT, postId, bucket);
+        String uniqueKey = String.format(HLL_UNIQUE_KEY_FORMAT, postId);
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHyperLogLog().add(bucketKey, viewerId);
+                ops.expire(bucketKey, dedupeTtlSeconds, TimeUnit.SECONDS);
+                ops.opsForHyperLogLog().add(uniqueKey, viewerId);
+                ops.expire(uniqueKey, uniqueViewerTtlDays, TimeUnit.DAYS);
+                return null;
+            }
+        });
+        return !results.isEmpty() && results.get(0) instanceof Number changed && changed.longValue() == 1L;
+    }
+
+    private long recordViewWithScript(Long postId, String viewerId) {
+        String viewerKey = String.format(VIEW_KEY_FORMAT, postId, viewerId);
+        List<?> result = redisTemplate.execute(RECORD_VIEW_SCRIPT, List.of(viewerKey, PENDING_HASH_KEY),
+                String.valueOf(dedupeTtlSeconds), String.valueOf(postId));
+        if (result == null || result.size() < 2) {
+            return 0L;
+        }
+        if (((Number) result.get(0)).longValue() == 1L) {
+            eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.VIEW));
+        }
+        return ((Number) result.get(1)).longValue();
+    }
+
+    private Map<Long, Long> drainRedisPending() {
+        List<?> entries;
+        try {
+            entries = redisTemplate.execute(DRAIN_PENDING_SCRIPT, List.of(PENDING_HASH_KEY));
+        } catch (RuntimeException e) {
+            log.error("Redis 미반영 조회수 조회 실패", e);
+            return Map.of();
+        }
+        Map<Long, Long> deltas = new HashMap<>();
+        if (entries == null) {
+            return deltas;
+        }
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            long delta = Long.parseLong(entries.get(i + 1).toString());
+            if (delta > 0) {
+                deltas.put(Long.valueOf(entries.get(i).toString()), delta);
+            }
+        }
+        return deltas;
+    }
+
+    private void restoreRedisPending(Map<Long, Long> deltas) {
+        deltas.forEach((postId, delta) ->
+                redisTemplate.opsForHash().increment(PENDING_HASH_KEY, String.valueOf(postId), delta));
+    }
+
+    // 같은 증가분을 가진 게시글끼리 묶어 한 번의 다중 행 UPDATE로 반영
+    private void applyDeltas(Map<Long, Long> deltas) {
+        Map<Long, List<Long>> postIdsByDelta = new TreeMap<>();
+        deltas.forEach((postId, delta) -> postIdsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(postId));
+
+        postIdsByDelta.forEach((delta, postIds) -> {
+            for (int from = 0; from < postIds.size(); from += FLUSH_CHUNK_SIZE) {
+                List<Long> chunk = postIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, postIds.size()));
+                postRepository.addViewCounts(chunk, delta);
+            }
+        });
+    }
+}
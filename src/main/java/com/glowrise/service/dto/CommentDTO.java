@@ -24,9 +24,19 @@ public class CommentDTO {
 
     private String email;
 
-    private List<CommentDTO> replies = new ArrayList<>();
+    private List<CommentDTO> replies = new ArrayList<>(); // 목록 조회 시 앞쪽 답글만 포함
+
+    private long replyCount; // 바로 아래 답글 수 (삭제 표시된 답글 포함)
+
+    private String replyCursor; // 나머지 답글을 /api/comments/{id}/replies로 이어 읽을 커서 (모두 포함했으면 null)
+
+    private Integer depth; // 스레드 조회에서 요청한 댓글 기준 깊이 (요청한 댓글이 0)
+
+    private Long descendantCount; // 스레드 조회 첫 페이지의 요청한 댓글에만 채움 (모든 깊이의 하위 댓글 수, max-tree-size + 1에서 멈춤)
 
     private boolean deleted;
 
+    private LocalDateTime createdAt;
+
     private LocalDateTime updatedAt;
 }
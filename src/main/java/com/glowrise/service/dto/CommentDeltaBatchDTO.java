@@ -0,0 +1,20 @@
+package com.glowrise.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * /topic/posts/{postId}/comments 메시지. 짧은 구간에 모인 변경분을 발생 순서대로 담으며,
+ * 같은 댓글의 변경은 하나로 합쳐져 있다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentDeltaBatchDTO {
+    private Long postId;
+    private List<CommentDeltaDTO> deltas = new ArrayList<>();
+}
@@ -0,0 +1,22 @@
+package com.glowrise.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 댓글 채널로 보내는 댓글 하나의 변경분.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentDeltaDTO {
+    private Type type;
+    private Long commentId;
+    private Long parentId; // 최상위 댓글이면 null
+    private CommentDTO comment; // CREATED/UPDATED의 최신 내용, DELETED면 null
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
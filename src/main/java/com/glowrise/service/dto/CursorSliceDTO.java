@@ -0,0 +1,21 @@
+package com.glowrise.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답. 전체 개수는 계산하지 않으며, 다음 페이지는 nextCursor로 요청한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorSliceDTO<T> {
+    private List<T> content = new ArrayList<>();
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 마지막 페이지면 null
+}
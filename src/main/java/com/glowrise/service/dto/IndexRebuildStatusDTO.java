@@ -0,0 +1,34 @@
+package com.glowrise.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 색인 재구축 진행 상황. 처리 속도는 시작 이후 평균이며, 남은 시간은 그 속도로 계산한 추정값이다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndexRebuildStatusDTO {
+    private State state;
+    private Long fromId; // 이 ID 다음부터 시작
+    private Long checkpointId; // 여기까지 빠짐없이 색인됨 (resume 시 이 다음부터)
+    private Long total; // 시작 시점에 센 대상 게시글 수
+    private Long processed;
+    private Double throughputPerSecond;
+    private Long etaSeconds; // 실행 중이 아니거나 아직 계산할 수 없으면 null
+    private Long elapsedSeconds;
+    private String error;
+
+    public static IndexRebuildStatusDTO idle(Long checkpointId) {
+        IndexRebuildStatusDTO status = new IndexRebuildStatusDTO();
+        status.setState(State.IDLE);
+        status.setCheckpointId(checkpointId);
+        return status;
+    }
+
+    public enum State {
+        IDLE, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+}
@@ -20,10 +20,12 @@ public class PostDTO {
     private Long userId;
     private Long commentCount;
     private Long viewCount;
+    private Long uniqueViewerCount;
     private List<Long> fileIds = new ArrayList<>();
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Long fileCount;
+    private Integer wordCount;
     private List<Long> inlineImageFileIds;
 
 
@@ -0,0 +1,55 @@
+package com.glowrise.service.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약 DTO. 본문(content)은 담지 않고, 저장된 요약(snippet)만 포함한다.
+ * QueryDSL 생성자 프로젝션으로 채우므로 생성자 파라미터 순서를 바꿀 때는 PostSummaryProjection도 함께 수정해야 한다.
+ */
+@Data
+@NoArgsConstructor
+public class PostSummaryDTO {
+    private Long id;
+    private String title;
+    private String contentSnippet;
+    private Long menuId;
+    private String menuName;
+    private Long blogId;
+    private String blogUrl;
+    private Long userId;
+    private String authorNickName;
+    private Long viewCount;
+    private Long commentCount;
+    private Long fileCount;
+    private Integer wordCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // 검색 결과에서만 채움. 검색어를 <mark>로 감싼 HTML (원문은 이스케이프됨)
+    private String titleHighlight;
+    private String contentHighlight;
+
+    public PostSummaryDTO(Long id, String title, String contentSnippet, Long menuId, String menuName,
+                          Long blogId, String blogUrl, Long userId, String authorNickName,
+                          Long viewCount, Long commentCount, Long fileCount, Integer wordCount,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.contentSnippet = contentSnippet;
+        this.menuId = menuId;
+        this.menuName = menuName;
+        this.blogId = blogId;
+        this.blogUrl = blogUrl;
+        this.userId = userId;
+        this.authorNickName = authorNickName;
+        this.viewCount = viewCount;
+        this.commentCount = commentCount;
+        this.fileCount = fileCount;
+        this.wordCount = wordCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -5,10 +5,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class SearchResultDTO {
-    private Page<PostDTO> posts; // List -> Page 로 변경
+    private Page<PostSummaryDTO> posts; // List -> Page 로 변경 (본문 없이 요약만 포함)
     private Page<UserDTO> users; // List -> Page 로 변경
+    private List<String> degradedSections; // 제한 시간 초과/실패로 빈 결과를 담은 부분 (posts, users)
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.glowrise.service.dto;
+
+import com.glowrise.service.search.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색창 자동완성 항목. type에 따라 게시글(blogUrl + menuId + id), 사용자/블로그(blogUrl)로 이동한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDTO {
+    private SuggestionType type;
+    private Long id;
+    private String text;
+    private String blogUrl;
+    private Long menuId;
+}
@@ -0,0 +1,15 @@
+package com.glowrise.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 블로그 제목/주소가 바뀌거나 블로그가 생성/삭제되었음을 알리는 이벤트.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BlogChangedEvent {
+    private final Long blogId;
+}
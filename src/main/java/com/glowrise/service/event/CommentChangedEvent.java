@@ -0,0 +1,17 @@
+package com.glowrise.service.event;
+
+import com.glowrise.service.dto.CommentDeltaDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 댓글 작성/수정/삭제 이벤트. 커밋 이후 게시글 댓글 채널로 전송된다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CommentChangedEvent {
+    private final Long postId;
+    private final CommentDeltaDTO delta;
+}
@@ -0,0 +1,16 @@
+package com.glowrise.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 블로그의 메뉴 구조(추가/수정/순서 변경/삭제)가 바뀌었음을 알리는 이벤트.
+ * 트랜잭션 안에서 발행된 경우 커밋 이후에 처리된다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class MenuChangedEvent {
+    private final Long blogId;
+}
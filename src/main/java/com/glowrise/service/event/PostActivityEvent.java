@@ -0,0 +1,18 @@
+package com.glowrise.service.event;
+
+import com.glowrise.domain.enumerate.PostActivityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 인기/트렌딩 집계에 반영할 게시글 활동 이벤트.
+ * 트랜잭션 안에서 발행된 경우 커밋 이후에 처리된다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PostActivityEvent {
+    private final Long postId;
+    private final PostActivityType type;
+}
@@ -0,0 +1,15 @@
+package com.glowrise.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 게시글 상세 내용(본문, 메뉴, 첨부 파일 등)이 바뀌거나 게시글이 삭제되었음을 알리는 이벤트.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PostChangedEvent {
+    private final Long postId;
+}
@@ -0,0 +1,15 @@
+package com.glowrise.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 사용자의 표시 정보(닉네임 등)가 바뀌거나 사용자가 생성/삭제되었음을 알리는 이벤트.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UserChangedEvent {
+    private final Long userId;
+}
@@ -0,0 +1,7 @@
+package com.glowrise.service.exception;
+
+public class CommentDepthExceededException extends RuntimeException {
+    public CommentDepthExceededException(String message) {
+        super(message);
+    }
+}
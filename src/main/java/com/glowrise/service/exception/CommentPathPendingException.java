@@ -0,0 +1,7 @@
+package com.glowrise.service.exception;
+
+public class CommentPathPendingException extends RuntimeException {
+    public CommentPathPendingException(String message) {
+        super(message);
+    }
+}
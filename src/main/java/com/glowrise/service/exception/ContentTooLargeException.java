@@ -0,0 +1,7 @@
+package com.glowrise.service.exception;
+
+public class ContentTooLargeException extends RuntimeException {
+    public ContentTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -10,4 +10,6 @@ import org.mapstruct.ReportingPolicy;
 
 @Mapper(componentModel = "spring", uses = {}, unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface PostMapper extends EntityMapper<PostDTO, Post> {
+
+    PostDTO copy(PostDTO source);
 }
@@ -0,0 +1,130 @@
+package com.glowrise.service.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자주 들어오는 검색어 상위 capacity개를 추정한다.
+ * 검색어별 횟수는 Count-Min Sketch(고정 크기 카운터 표)에 세므로 서로 다른 검색어가 아무리 많아도 메모리가 늘지 않고,
+ * 추정값이 큰 검색어만 따로 capacity개까지 보관한다. 추정값은 실제보다 작지 않으며 해시 충돌만큼 클 수 있다.
+ * decay()를 주기적으로 호출하면 모든 값이 절반이 되어 최근에 많이 들어온 검색어가 위로 올라온다.
+ */
+public class HotQueryTracker {
+
+    private static final int DEPTH = 4;
+
+    private final int[][] counters;
+    private final int mask;
+    private final int capacity;
+    private final Map<String, Integer> top = new HashMap<>();
+
+    /**
+     * @param width    행당 카운터 수 (2의 거듭제곱으로 올림). 클수록 충돌로 인한 과대 추정이 줄어든다.
+     * @param capacity 보관할 상위 검색어 수
+     */
+    public HotQueryTracker(int width, int capacity) {
+        if (width <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("width와 capacity는 1 이상이어야 합니다: " + width + ", " + capacity);
+        }
+        int size = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+        this.counters = new int[DEPTH][size];
+        this.mask = size - 1;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 검색어 1회를 기록한다. 행마다 가장 작은 값에 맞춰서만 올려(conservative update) 충돌로 인한 과대 추정을 줄인다.
+     */
+    public synchronized void record(String query) {
+        int[] slots = slots(query);
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, counters[row][slots[row]]);
+        }
+        if (min == Integer.MAX_VALUE) {
+            // 포화된 카운터는 더 올리지 않는다.
+            return;
+        }
+        int estimate = min + 1;
+        for (int row = 0; row < DEPTH; row++) {
+            if (counters[row][slots[row]] < estimate) {
+                counters[row][slots[row]] = estimate;
+            }
+        }
+        offer(query, estimate);
+    }
+
+    /**
+     * 상위 검색어를 추정 횟수가 큰 순서로 반환한다.
+     */
+    public synchronized List<String> topQueries() {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(top.entrySet());
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        return entries.stream().map(Map.Entry::getKey).toList();
+    }
+
+    /**
+     * 모든 횟수를 절반으로 줄인다. 0이 된 상위 검색어는 목록에서 뺀다.
+     */
+    public synchronized void decay() {
+        for (int[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>>= 1;
+            }
+        }
+        Iterator<Map.Entry<String, Integer>> iterator = top.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Integer> entry = iterator.next();
+            int halved = entry.getValue() >>> 1;
+            if (halved == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(halved);
+            }
+        }
+    }
+
+    private void offer(String query, int estimate) {
+        if (top.containsKey(query) || top.size() < capacity) {
+            top.put(query, estimate);
+            return;
+        }
+        String smallest = null;
+        int smallestCount = Integer.MAX_VALUE;
+        for (Map.Entry<String, Integer> entry : top.entrySet()) {
+            if (entry.getValue() < smallestCount) {
+                smallest = entry.getKey();
+                smallestCount = entry.getValue();
+            }
+        }
+        if (estimate > smallestCount) {
+            top.remove(smallest);
+            top.put(query, estimate);
+        }
+    }
+
+    /**
+     * 행마다 다른 위치. 두 해시를 섞어(h1 + row * h2) 해시 함수 DEPTH개를 대신한다.
+     */
+    private int[] slots(String query) {
+        int h1 = mix(query.hashCode());
+        int h2 = mix(h1 ^ 0x9E3779B9) | 1;
+        int[] slots = new int[DEPTH];
+        for (int row = 0; row < DEPTH; row++) {
+            slots[row] = (h1 + row * h2) & mask;
+        }
+        return slots;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
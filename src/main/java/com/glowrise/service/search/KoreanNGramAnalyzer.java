@@ -0,0 +1,33 @@
+package com.glowrise.service.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+/**
+ * 게시글 검색용 분석기.
+ * 한글은 형태소 분석 없이 2글자 단위(bigram)로 잘라 조사가 붙은 어절("검색엔진을")에서도 "검색", "엔진"이 검색되도록 하고,
+ * 영문/숫자는 단어 단위로 소문자화한다. 색인과 검색에 같은 분석기를 사용해야 한다.
+ */
+public class KoreanNGramAnalyzer extends Analyzer {
+
+    private static final int BIGRAM_SCRIPTS = CJKBigramFilter.HANGUL | CJKBigramFilter.HAN
+            | CJKBigramFilter.HIRAGANA | CJKBigramFilter.KATAKANA;
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        StandardTokenizer tokenizer = new StandardTokenizer();
+        TokenStream stream = new CJKWidthFilter(tokenizer); // 전각/반각 문자 정규화
+        stream = new LowerCaseFilter(stream);
+        stream = new CJKBigramFilter(stream, BIGRAM_SCRIPTS, false); // 한 글자 어절은 그대로 남는다
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in) {
+        return new LowerCaseFilter(new CJKWidthFilter(in));
+    }
+}
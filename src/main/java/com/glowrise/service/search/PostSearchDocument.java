@@ -0,0 +1,12 @@
+package com.glowrise.service.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인에 넣는 게시글 정보.
+ *
+ * @param body HTML을 제거한 본문 (Post.plainText)
+ */
+public record PostSearchDocument(Long postId, String title, String body, String author,
+                                 LocalDateTime createdAt, LocalDateTime lastModifiedAt) {
+}
@@ -0,0 +1,20 @@
+package com.glowrise.service.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 페이지의 게시글(관련도 순서 유지)과 전체 일치 건수.
+ */
+public record PostSearchHits(List<Hit> hits, long totalHits) {
+
+    public List<Long> postIds() {
+        return hits.stream().map(Hit::postId).toList();
+    }
+
+    /**
+     * titleHighlight, bodyHighlight는 검색어를 &lt;mark&gt;로 감싼 HTML이며 원문은 이스케이프되어 있다.
+     * 본문이 비어 있으면 bodyHighlight는 null이다.
+     */
+    public record Hit(Long postId, float score, String titleHighlight, String bodyHighlight) {
+    }
+}
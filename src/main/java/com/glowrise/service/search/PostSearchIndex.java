@@ -0,0 +1,381 @@
+package com.glowrise.service.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.LengthGoalBreakIterator;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.search.uhighlight.WholeBreakIterator;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.BreakIterator;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 검색용 Lucene 역색인.
+ * 로컬 디렉터리에 세그먼트를 저장하므로 재시작 시 전체를 다시 만들지 않고 마지막 커밋 이후 변경분만 반영하면 된다.
+ * 문서 추가/삭제는 즉시 색인되지만 검색에는 refresh() 이후에 보인다.
+ * 순위는 BM25(제목 가중치 적용)이며, 제목/본문은 토큰 위치(offset)를 색인에 함께 저장해 강조 구간을 다시 분석하지 않고 찾는다.
+ */
+@Component
+@Slf4j
+public class PostSearchIndex {
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_BODY = "body";
+    static final String FIELD_AUTHOR = "author";
+    static final String FIELD_CREATED_AT = "createdAt";
+
+    // 필드 구성이 바뀌면 올린다. 커밋에 저장된 값과 다르면 기동 시 색인을 비우고 다시 만든다.
+    private static final String SCHEMA_VERSION = "2";
+    private static final String SCHEMA_VERSION_KEY = "schemaVersion";
+
+    // 강조 구간을 찾는 본문 최대 길이. 정화 전 본문 최대 길이(glowrise.sanitizer.max-input-length)와 같게 둔다.
+    private static final int HIGHLIGHT_MAX_LENGTH = 200_000;
+
+    private static final List<String> SEARCH_FIELDS = List.of(FIELD_TITLE, FIELD_BODY, FIELD_AUTHOR);
+
+    private static final FieldType HIGHLIGHTED_TEXT = highlightedTextType();
+
+    // 점수가 같으면 최신 글 우선
+    private static final Sort RELEVANCE = new Sort(SortField.FIELD_SCORE,
+            new SortField(FIELD_CREATED_AT, SortField.Type.LONG, true));
+
+    private final Analyzer analyzer = new KoreanNGramAnalyzer();
+    private final QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+    private final DefaultPassageFormatter formatter = new DefaultPassageFormatter("<mark>", "</mark>", "… ", true);
+    private final String indexDir;
+    private final float titleBoost;
+    private final int fragmentLength;
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private Map<String, String> lastCommitData = Map.of();
+
+    public PostSearchIndex(@Value("${glowrise.search.index-dir:./data/search-index}") String indexDir,
+                           @Value("${glowrise.search.title-boost:3.0}") float titleBoost,
+                           @Value("${glowrise.search.fragment-length:150}") int fragmentLength) {
+        this.indexDir = indexDir;
+        this.titleBoost = titleBoost;
+        this.fragmentLength = fragmentLength;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Path path = Path.of(indexDir);
+        Files.createDirectories(path);
+        directory = FSDirectory.open(path);
+        IndexWriterConfig.OpenMode openMode = IndexWriterConfig.OpenMode.CREATE_OR_APPEND;
+        if (DirectoryReader.indexExists(directory)) {
+            Map<String, String> commitData = SegmentInfos.readLatestCommit(directory).getUserData();
+            if (SCHEMA_VERSION.equals(commitData.get(SCHEMA_VERSION_KEY))) {
+                lastCommitData = commitData;
+            } else {
+                log.info("게시글 검색 색인 구성이 바뀌어 새로 만듭니다. (이전: {}, 현재: {})",
+                        commitData.get(SCHEMA_VERSION_KEY), SCHEMA_VERSION);
+                openMode = IndexWriterConfig.OpenMode.CREATE;
+            }
+        }
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(openMode);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+        log.info("게시글 검색 색인 열기 완료 (경로: {}, 문서 수: {})", path.toAbsolutePath(), writer.getDocStats().numDocs);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit(lastCommitData);
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    /**
+     * 마지막 커밋에 함께 저장한 값 (예: 어디까지 색인했는지 나타내는 기준 시각)
+     */
+    public Map<String, String> getLastCommitData() {
+        return lastCommitData;
+    }
+
+    public void index(Collection<PostSearchDocument> documents) {
+        try {
+            for (PostSearchDocument document : documents) {
+                writer.updateDocument(idTerm(document.postId()), toLuceneDocument(document));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 색인 실패", e);
+        }
+    }
+
+    public void delete(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        try {
+            writer.deleteDocuments(postIds.stream().map(this::idTerm).toArray(Term[]::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 색인 삭제 실패", e);
+        }
+    }
+
+    /**
+     * 검색에 보이는(마지막 refresh() 기준) 모든 게시글 ID. 저장 필드 대신 ID 필드의 용어 사전만 읽는다.
+     */
+    public List<Long> postIds() {
+        IndexSearcher searcher = acquire();
+        try {
+            List<Long> postIds = new ArrayList<>();
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                Terms terms = leaf.reader().terms(FIELD_ID);
+                if (terms == null) {
+                    continue;
+                }
+                // 삭제된 문서의 용어는 병합 전까지 남아 있으므로 살아 있는 문서가 있는 ID만 모은다.
+                Bits liveDocs = leaf.reader().getLiveDocs();
+                TermsEnum termsEnum = terms.iterator();
+                PostingsEnum postings = null;
+                for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+                    postings = termsEnum.postings(postings, PostingsEnum.NONE);
+                    for (int doc = postings.nextDoc(); doc != PostingsEnum.NO_MORE_DOCS; doc = postings.nextDoc()) {
+                        if (liveDocs == null || liveDocs.get(doc)) {
+                            postIds.add(Long.valueOf(term.utf8ToString()));
+                            break;
+                        }
+                    }
+                }
+            }
+            return postIds;
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 검색 색인 ID 조회 실패", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 최근 변경을 검색에 보이게 한다.
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 검색 색인 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 변경 사항을 디스크에 반영한다. commitData는 다음 기동 시 getLastCommitData()로 읽을 수 있다.
+     * 이전 커밋의 값에 commitData를 덮어쓰며, 값이 null인 키는 지운다.
+     */
+    public synchronized void commit(Map<String, String> commitData) {
+        Map<String, String> data = new HashMap<>(lastCommitData);
+        commitData.forEach((key, value) -> {
+            if (value == null) {
+                data.remove(key);
+            } else {
+                data.put(key, value);
+            }
+        });
+        data.put(SCHEMA_VERSION_KEY, SCHEMA_VERSION);
+        try {
+            writer.setLiveCommitData(Map.copyOf(data).entrySet());
+            writer.commit();
+            lastCommitData = Map.copyOf(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 검색 색인 커밋 실패", e);
+        }
+    }
+
+    /**
+     * 제목, 본문, 작성자 중 한 필드에 검색어의 모든 토큰이 포함된 게시글을 관련도 순으로 찾는다.
+     * 점수 계산과 정렬은 색인 안에서 끝나며, 강조 구간은 요청한 페이지의 문서에 대해서만 계산한다.
+     */
+    public PostSearchHits search(String text, int offset, int limit) {
+        Query query = buildQuery(text);
+        if (query == null || limit <= 0) {
+            return new PostSearchHits(List.of(), 0);
+        }
+        IndexSearcher searcher = acquire();
+        try {
+            int totalHits = searcher.count(query);
+            if (offset >= totalHits) {
+                return new PostSearchHits(List.of(), totalHits);
+            }
+            TopDocs topDocs = searcher.search(query, offset + limit, RELEVANCE, true);
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            int pageSize = Math.max(0, scoreDocs.length - offset);
+            int[] docIds = new int[pageSize];
+            for (int i = 0; i < pageSize; i++) {
+                docIds[i] = scoreDocs[offset + i].doc;
+            }
+
+            String[] titles = highlight(searcher, FIELD_TITLE, query, docIds, WholeBreakIterator::new);
+            String[] bodies = highlight(searcher, FIELD_BODY, query, docIds, () -> LengthGoalBreakIterator.createClosestToLength(
+                    BreakIterator.getSentenceInstance(Locale.ROOT), fragmentLength));
+
+            StoredFields storedFields = searcher.storedFields();
+            List<PostSearchHits.Hit> hits = new ArrayList<>(pageSize);
+            for (int i = 0; i < pageSize; i++) {
+                ScoreDoc scoreDoc = scoreDocs[offset + i];
+                Long postId = Long.valueOf(storedFields.document(scoreDoc.doc).get(FIELD_ID));
+                hits.add(new PostSearchHits.Hit(postId, scoreDoc.score, titles[i], bodies[i]));
+            }
+            return new PostSearchHits(hits, totalHits);
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 검색 실패", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * postIds 중 하나라도 지금 보이는 색인에서 search(text)에 걸리는지 확인한다. 본문을 다시 분석하지 않고
+     * 게시글 ID 조건으로 좁힌 개수만 세므로, 바뀐 게시글이 검색어에 새로 걸리게 되었는지 볼 때 쓴다.
+     */
+    public boolean matchesAny(String text, Collection<Long> postIds) {
+        Query query = buildQuery(text);
+        if (query == null || postIds.isEmpty()) {
+            return false;
+        }
+        List<BytesRef> ids = new ArrayList<>(postIds.size());
+        postIds.forEach(postId -> ids.add(new BytesRef(String.valueOf(postId))));
+        Query restricted = new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.FILTER)
+                .add(new TermInSetQuery(FIELD_ID, ids), BooleanClause.Occur.FILTER)
+                .build();
+        IndexSearcher searcher = acquire();
+        try {
+            return searcher.count(restricted) > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 검색 실패", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 색인에 저장된 토큰 위치로 강조 구간을 만든다. 검색어가 없는 필드는 앞부분을 그대로 돌려준다.
+     */
+    private String[] highlight(IndexSearcher searcher, String field, Query query, int[] docIds,
+                               Supplier<BreakIterator> breakIterator) throws IOException {
+        UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                .withBreakIterator(breakIterator)
+                .withFormatter(formatter)
+                .withMaxLength(HIGHLIGHT_MAX_LENGTH)
+                .build();
+        return highlighter.highlightFields(new String[]{field}, query, docIds, new int[]{1}).get(field);
+    }
+
+    private Query buildQuery(String text) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        boolean hasClause = false;
+        for (String field : SEARCH_FIELDS) {
+            Query fieldQuery = queryBuilder.createBooleanQuery(field, text, BooleanClause.Occur.MUST);
+            if (fieldQuery != null) {
+                builder.add(FIELD_TITLE.equals(field) ? new BoostQuery(fieldQuery, titleBoost) : fieldQuery,
+                        BooleanClause.Occur.SHOULD);
+                hasClause = true;
+            }
+        }
+        return hasClause ? builder.build() : null;
+    }
+
+    private Document toLuceneDocument(PostSearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(source.postId()), Field.Store.YES));
+        document.add(new Field(FIELD_TITLE, nullToEmpty(source.title()), HIGHLIGHTED_TEXT));
+        document.add(new Field(FIELD_BODY, nullToEmpty(source.body()), HIGHLIGHTED_TEXT));
+        document.add(new TextField(FIELD_AUTHOR, nullToEmpty(source.author()), Field.Store.NO));
+        long createdAt = source.createdAt() != null ? source.createdAt().toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        document.add(new NumericDocValuesField(FIELD_CREATED_AT, createdAt));
+        return document;
+    }
+
+    private Term idTerm(Long postId) {
+        return new Term(FIELD_ID, String.valueOf(postId));
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 검색 색인을 열 수 없습니다.", e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("게시글 검색 색인 반환 실패", e);
+        }
+    }
+
+    /**
+     * 저장 + 위치/오프셋 포함 색인. 강조 시 본문을 다시 분석하지 않고 색인의 오프셋을 쓴다.
+     */
+    private static FieldType highlightedTextType() {
+        FieldType type = new FieldType(TextField.TYPE_STORED);
+        type.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        type.freeze();
+        return type;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
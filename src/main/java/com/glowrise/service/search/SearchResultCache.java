@@ -0,0 +1,278 @@
+package com.glowrise.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.glowrise.service.dto.PostSummaryDTO;
+import com.glowrise.service.dto.SearchResultDTO;
+import com.glowrise.service.event.BlogChangedEvent;
+import com.glowrise.service.event.UserChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 통합 검색 결과 캐시. 키는 정규화한 검색어와 게시글/사용자 페이지이며, 짧은 TTL 동안만 보관한다.
+ * 게시글 변경은 색인에 반영되어 검색에 보이게 된 뒤(onPostsIndexed) 그 게시글이 들어 있거나
+ * 새 내용이 검색어에 걸리는 항목만 지운다. 사용자/블로그 변경은 드물어 전체를 지운다.
+ * 무효화마다 순번을 매겨 최근 목록에 남겨 두고, 계산 중이던 결과는 put() 때 시작 순번 이후의 무효화 중
+ * 그 키에 해당하는 것이 있을 때만 버린다 (다른 검색어에 대한 변경으로 진행 중인 계산을 모두 버리지 않는다).
+ * 많이 들어오는 검색어(HotQueryTracker)의 항목은 만료 전에 다시 계산하도록 keysToRefresh()로 알려준다.
+ */
+@Component
+@Slf4j
+public class SearchResultCache {
+
+    private static final long INVALIDATION_RETENTION_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final PostSearchIndex postSearchIndex;
+    private final Cache<Key, Entry> cache;
+    private final HotQueryTracker hotQueries;
+    // 무효화 순번. 계산 시작 시 읽어 두고 put()에서 그 뒤의 무효화만 확인한다.
+    private final AtomicLong stamp = new AtomicLong();
+    // 최근 무효화 (순번 오름차순). INVALIDATION_RETENTION보다 오래된 것은 버리고, 그보다 먼저 시작한 계산은 넣지 않는다.
+    private final Deque<Invalidation> invalidations = new ConcurrentLinkedDeque<>();
+    private volatile long prunedThrough;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final int maxRefreshesPerRun;
+    private final MeterRegistry meterRegistry;
+
+    public SearchResultCache(PostSearchIndex postSearchIndex, MeterRegistry meterRegistry,
+                             @Value("${glowrise.search.result-cache.ttl-seconds:30}") long ttlSeconds,
+                             @Value("${glowrise.search.result-cache.max-entries:10000}") long maxEntries,
+                             @Value("${glowrise.search.result-cache.refresh-ahead-seconds:10}") long refreshAheadSeconds,
+                             @Value("${glowrise.search.result-cache.max-refreshes-per-run:10}") int maxRefreshesPerRun,
+                             @Value("${glowrise.search.result-cache.hot-queries:20}") int hotQueryCount,
+                             @Value("${glowrise.search.result-cache.sketch-width:4096}") int sketchWidth) {
+        this.postSearchIndex = postSearchIndex;
+        this.meterRegistry = meterRegistry;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.refreshAheadNanos = TimeUnit.SECONDS.toNanos(refreshAheadSeconds);
+        this.maxRefreshesPerRun = maxRefreshesPerRun;
+        this.hotQueries = new HotQueryTracker(sketchWidth, hotQueryCount);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "searchResult");
+        Gauge.builder("glowrise.search.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("통합 검색 결과 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 앞뒤 공백 제거, 연속 공백 하나로, 전각/반각 통일(NFKC), 소문자. 같은 검색으로 보는 입력을 한 키로 모은다.
+     */
+    public static String normalize(String query) {
+        return Normalizer.normalize(query, Normalizer.Form.NFKC)
+                .strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시된 결과를 반환하고 검색어 빈도를 기록한다. 없으면 null.
+     */
+    public SearchResultDTO get(Key key) {
+        hotQueries.record(key.query());
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? entry.result() : null;
+    }
+
+    /**
+     * 계산을 시작하기 전에 읽어 두었다가 put()에 넘긴다.
+     */
+    public long stamp() {
+        return stamp.get();
+    }
+
+    /**
+     * 일부가 빈 결과로 대신된 응답이나, 계산하는 동안 이 키에 해당하는 무효화가 있었던 결과는 넣지 않는다.
+     */
+    public boolean put(Key key, SearchResultDTO result, long startedStamp) {
+        if (!result.getDegradedSections().isEmpty() || invalidatedSince(key, result, startedStamp)) {
+            return false;
+        }
+        Entry entry = new Entry(result, System.nanoTime());
+        cache.put(key, entry);
+        // 확인과 put 사이에 기록된 무효화는 캐시를 훑을 때 이 항목을 못 봤을 수 있으므로 다시 확인한다.
+        if (invalidatedSince(key, result, startedStamp)) {
+            cache.asMap().remove(key, entry);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 많이 들어오는 검색어의 항목 중 만료가 가까운 것. 호출부가 다시 계산해 put()한다.
+     */
+    public List<Key> keysToRefresh() {
+        Set<String> hot = new HashSet<>(hotQueries.topQueries());
+        if (hot.isEmpty()) {
+            return List.of();
+        }
+        long now = System.nanoTime();
+        List<Key> keys = new ArrayList<>();
+        for (Map.Entry<Key, Entry> cached : cache.asMap().entrySet()) {
+            if (keys.size() >= maxRefreshesPerRun) {
+                break;
+            }
+            if (hot.contains(cached.getKey().query()) && now - cached.getValue().createdAt() >= ttlNanos - refreshAheadNanos) {
+                keys.add(cached.getKey());
+            }
+        }
+        return keys;
+    }
+
+    @Scheduled(fixedDelayString = "${glowrise.search.result-cache.hot-query-decay-interval-ms:60000}")
+    public void decayHotQueries() {
+        hotQueries.decay();
+        log.debug("인기 검색어: {}", hotQueries.topQueries());
+    }
+
+    /**
+     * 게시글 변경이 검색에 보이게 된 뒤 호출한다. 결과 페이지에 바뀐 게시글이 있거나,
+     * 바뀐 게시글이 지금 색인에서 검색어에 걸리면(새로 걸리게 된 경우) 그 항목을 지운다.
+     * 본문을 다시 분석하지 않고 캐시된 검색어마다 바뀐 게시글 ID로 좁힌 색인 조회 한 번으로 확인한다.
+     * 검색어에 더 이상 걸리지 않게 된 게시글이 다른 페이지에 있던 경우의 전체 개수 차이는 TTL 안에서 허용한다.
+     */
+    public void onPostsIndexed(Collection<PostSearchDocument> changed, Collection<Long> removed) {
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        Set<Long> changedIds = new HashSet<>();
+        changed.forEach(document -> changedIds.add(document.postId()));
+        Set<Long> postIds = new HashSet<>(removed);
+        postIds.addAll(changedIds);
+        record(false, postIds, changedIds);
+        if (cache.estimatedSize() == 0) {
+            return;
+        }
+
+        Map<String, Boolean> matchedQueries = new HashMap<>();
+        int before = (int) cache.estimatedSize();
+        cache.asMap().entrySet().removeIf(cached -> containsAny(cached.getValue().result(), postIds)
+                || matchedQueries.computeIfAbsent(cached.getKey().query(),
+                        query -> postSearchIndex.matchesAny(query, changedIds)));
+        countInvalidated("post", before - (int) cache.estimatedSize());
+    }
+
+    /**
+     * 새 닉네임/이메일에 어떤 검색어가 걸리는지 알 수 없으므로 전체를 지운다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidateAll("user");
+    }
+
+    /**
+     * 블로그 삭제 시 게시글이 이벤트 없이 함께 지워지고, 주소가 바뀌면 요약의 블로그 정보가 달라진다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogChanged(BlogChangedEvent event) {
+        invalidateAll("blog");
+    }
+
+    /**
+     * 검색 방식이 바뀌거나(DB → 색인) 한꺼번에 많은 게시글이 바뀌었을 때 사용한다.
+     */
+    public void invalidateAll(String reason) {
+        record(true, Set.of(), Set.of());
+        int before = (int) cache.estimatedSize();
+        cache.invalidateAll();
+        countInvalidated(reason, before);
+    }
+
+    // 순번을 매겨 목록 끝에 붙인다. 순번과 목록 순서가 어긋나지 않도록 한 번에 하나씩 처리한다.
+    private synchronized void record(boolean all, Set<Long> postIds, Set<Long> changedIds) {
+        long now = System.nanoTime();
+        invalidations.addLast(new Invalidation(stamp.incrementAndGet(), now, all, Set.copyOf(postIds), Set.copyOf(changedIds)));
+        Invalidation oldest;
+        while ((oldest = invalidations.peekFirst()) != null && now - oldest.at() > INVALIDATION_RETENTION_NANOS) {
+            invalidations.pollFirst();
+            prunedThrough = oldest.stamp();
+        }
+    }
+
+    // startedStamp 이후의 무효화 중 이 키의 결과에 해당하는 것이 있는지. 확인할 기록이 이미 버려졌으면 있다고 본다.
+    private boolean invalidatedSince(Key key, SearchResultDTO result, long startedStamp) {
+        if (stamp.get() == startedStamp) {
+            return false;
+        }
+        if (startedStamp < prunedThrough) {
+            return true;
+        }
+        Iterator<Invalidation> newestFirst = invalidations.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Invalidation invalidation = newestFirst.next();
+            if (invalidation.stamp() <= startedStamp) {
+                break;
+            }
+            if (invalidation.all() || containsAny(result, invalidation.postIds())
+                    || postSearchIndex.matchesAny(key.query(), invalidation.changedIds())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void countInvalidated(String reason, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder("glowrise.search.cache.invalidated")
+                .tag("reason", reason)
+                .description("변경으로 지운 통합 검색 결과 캐시 항목 수")
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private static boolean containsAny(SearchResultDTO result, Set<Long> postIds) {
+        for (PostSummaryDTO post : result.getPosts().getContent()) {
+            if (postIds.contains(post.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param query 정규화한 검색어 (normalize)
+     */
+    public record Key(String query, Pageable posts, Pageable users) {
+    }
+
+    private record Entry(SearchResultDTO result, long createdAt) {
+    }
+
+    /**
+     * @param postIds    결과 페이지에 있으면 무효인 게시글 (바뀐 게시글 + 지운 게시글)
+     * @param changedIds 검색어에 새로 걸렸는지 색인에서 확인할 게시글
+     */
+    private record Invalidation(long stamp, long at, boolean all, Set<Long> postIds, Set<Long> changedIds) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.glowrise.service.search;
+
+/**
+ * 자동완성 항목. (type, id)가 같으면 같은 항목이며, weight(인기도)가 높을수록 먼저 나온다.
+ * blogId, blogUrl, menuId는 화면 이동에 필요한 값으로, 종류에 따라 비어 있을 수 있다.
+ */
+public record Suggestion(SuggestionType type, Long id, String text, Long blogId, String blogUrl, Long menuId,
+                         long weight) {
+
+    boolean sameEntry(Suggestion other) {
+        return type == other.type && id.equals(other.id);
+    }
+}
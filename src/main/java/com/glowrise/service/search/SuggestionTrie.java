@@ -0,0 +1,372 @@
+package com.glowrise.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 자동완성용 압축 트라이(radix tree).
+ * 간선에 문자열 조각을 저장해 노드 수를 줄이고, 노드마다 하위 트리에서 인기도가 가장 높은 항목 topK개를 미리 계산해 둔다.
+ * 조회는 접두어 길이만큼 내려가 그 노드의 목록을 읽는 것으로 끝나므로 전체 항목 수와 무관하다.
+ * 키는 소문자 + 한글 자모 분해(NFKD) 형태로 저장해 "안ㄴ"처럼 조합 중인 입력도 "안녕"으로 이어진다.
+ * 항목의 전체 텍스트와 각 단어 시작 위치를 키로 등록하므로 제목 중간 단어로도 찾을 수 있다.
+ * 읽기는 여러 스레드가 동시에 하고, 추가/삭제는 한 번에 하나씩 처리한다.
+ */
+public class SuggestionTrie {
+
+    static final int MAX_KEY_LENGTH = 64;
+    private static final int MAX_KEYS_PER_ENTRY = 8;
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+    private static final Comparator<Suggestion> BY_WEIGHT = Comparator.comparingLong(Suggestion::weight).reversed()
+            .thenComparing(Suggestion::text)
+            .thenComparing(Suggestion::type)
+            .thenComparing(Suggestion::id);
+
+    private final int topK;
+    private final Node root = new Node("");
+    private final Map<EntryKey, Suggestion> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SuggestionTrie(int topK) {
+        if (topK <= 0) {
+            throw new IllegalArgumentException("topK는 1 이상이어야 합니다: " + topK);
+        }
+        this.topK = topK;
+    }
+
+    /**
+     * 항목을 추가한다. 같은 (type, id) 항목이 있으면 교체한다.
+     */
+    public void put(Suggestion suggestion) {
+        lock.writeLock().lock();
+        try {
+            EntryKey entryKey = new EntryKey(suggestion.type(), suggestion.id());
+            Suggestion previous = entries.remove(entryKey);
+            if (previous != null) {
+                keys(previous.text()).forEach(key -> delete(key, previous));
+            }
+            Set<String> keys = keys(suggestion.text());
+            if (keys.isEmpty()) {
+                return;
+            }
+            entries.put(entryKey, suggestion);
+            keys.forEach(key -> insert(key, suggestion));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(SuggestionType type, Long id) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = entries.remove(new EntryKey(type, id));
+            if (previous != null) {
+                keys(previous.text()).forEach(key -> delete(key, previous));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 항목을 모두 제거한다. 전체 항목을 훑으므로 블로그 삭제처럼 드문 경우에만 사용한다.
+     */
+    public void removeIf(Predicate<Suggestion> condition) {
+        lock.writeLock().lock();
+        try {
+            List<Suggestion> matched = entries.values().stream().filter(condition).toList();
+            for (Suggestion suggestion : matched) {
+                entries.remove(new EntryKey(suggestion.type(), suggestion.id()));
+                keys(suggestion.text()).forEach(key -> delete(key, suggestion));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 항목을 인기도 순으로 최대 limit(topK 이하)개 반환한다.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                int index = node.childIndex(key.charAt(i));
+                if (index < 0) {
+                    return List.of();
+                }
+                Node child = node.children[index];
+                int remaining = key.length() - i;
+                if (remaining <= child.label.length()) {
+                    return child.label.regionMatches(0, key, i, remaining) ? first(child.top, limit) : List.of();
+                }
+                if (!key.startsWith(child.label, i)) {
+                    return List.of();
+                }
+                node = child;
+                i += child.label.length();
+            }
+            return first(node.top, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 소문자 + NFKD(한글 음절을 자모로 분해, 호환 자모도 같은 자모로 맞춤), 연속 공백은 하나로 줄이고 최대 길이로 자른다.
+     */
+    static String normalize(String text) {
+        return truncate(fold(text));
+    }
+
+    /**
+     * 전체 텍스트와 두 번째 단어부터의 각 단어 시작 위치를 키로 만든다.
+     */
+    static Set<String> keys(String text) {
+        Set<String> keys = new LinkedHashSet<>();
+        String folded = fold(text);
+        if (folded.isEmpty()) {
+            return keys;
+        }
+        keys.add(truncate(folded));
+        for (int i = folded.indexOf(' '); i >= 0 && keys.size() < MAX_KEYS_PER_ENTRY; i = folded.indexOf(' ', i + 1)) {
+            keys.add(truncate(folded.substring(i + 1)));
+        }
+        return keys;
+    }
+
+    private static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKD)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private void insert(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.childIndex(key.charAt(i));
+            if (index < 0) {
+                Node leaf = new Node(key.substring(i));
+                node.addChild(-index - 1, leaf);
+                node = leaf;
+                path.add(node);
+                break;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라지면 공통 부분을 새 노드로 분리한다.
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children = new Node[]{child};
+                middle.top = child.top;
+                node.children[index] = middle;
+                child = middle;
+            }
+            node = child;
+            path.add(node);
+            i += common;
+        }
+        node.terminals = append(node.terminals, suggestion);
+        for (Node onPath : path) {
+            onPath.top = withCandidate(onPath.top, suggestion);
+        }
+    }
+
+    private void delete(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.childIndex(key.charAt(i));
+            if (index < 0) {
+                return;
+            }
+            Node child = node.children[index];
+            if (!key.startsWith(child.label, i)) {
+                return;
+            }
+            node = child;
+            path.add(node);
+            i += child.label.length();
+        }
+        node.terminals = without(node.terminals, suggestion);
+
+        for (int p = path.size() - 1; p > 0; p--) {
+            Node current = path.get(p);
+            if (current.terminals.length == 0 && current.children.length == 0) {
+                path.get(p - 1).removeChild(current);
+            } else if (current.terminals.length == 0 && current.children.length == 1) {
+                // 갈림이 없어진 노드는 자식과 합쳐 압축 상태를 유지한다.
+                Node only = current.children[0];
+                current.label = current.label + only.label;
+                current.children = only.children;
+                current.terminals = only.terminals;
+                current.top = only.top;
+            } else if (containsEntry(current.top, suggestion)) {
+                recomputeTop(current);
+            }
+        }
+        if (containsEntry(root.top, suggestion)) {
+            recomputeTop(root);
+        }
+    }
+
+    /**
+     * 삭제로 상위 목록에서 항목이 빠졌을 때만 호출한다. 자식 목록은 이미 정렬되어 있으므로 각 자식에서 앞쪽만 본다.
+     */
+    private void recomputeTop(Node node) {
+        Suggestion[] top = NO_SUGGESTIONS;
+        for (Suggestion terminal : node.terminals) {
+            top = withCandidate(top, terminal);
+        }
+        for (Node child : node.children) {
+            for (Suggestion candidate : child.top) {
+                if (top.length == topK && BY_WEIGHT.compare(candidate, top[topK - 1]) >= 0) {
+                    break;
+                }
+                top = withCandidate(top, candidate);
+            }
+        }
+        node.top = top;
+    }
+
+    /**
+     * 정렬된 상위 목록에 후보를 넣은 새 배열을 반환한다. 이미 있는 항목이거나 topK 밖이면 그대로 반환한다.
+     * 한 항목이 여러 키(단어 시작 위치)로 같은 하위 트리에 들어 있을 수 있어 중복을 확인한다.
+     */
+    private Suggestion[] withCandidate(Suggestion[] top, Suggestion candidate) {
+        if (containsEntry(top, candidate)) {
+            return top;
+        }
+        int position = 0;
+        while (position < top.length && BY_WEIGHT.compare(top[position], candidate) <= 0) {
+            position++;
+        }
+        if (position >= topK) {
+            return top;
+        }
+        int length = Math.min(top.length + 1, topK);
+        Suggestion[] result = new Suggestion[length];
+        System.arraycopy(top, 0, result, 0, position);
+        result[position] = candidate;
+        System.arraycopy(top, position, result, position + 1, length - position - 1);
+        return result;
+    }
+
+    private static boolean containsEntry(Suggestion[] suggestions, Suggestion entry) {
+        for (Suggestion suggestion : suggestions) {
+            if (suggestion.sameEntry(entry)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Suggestion> first(Suggestion[] top, int limit) {
+        return List.of(top.length <= limit ? top : Arrays.copyOf(top, limit));
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Suggestion[] append(Suggestion[] suggestions, Suggestion added) {
+        Suggestion[] result = Arrays.copyOf(suggestions, suggestions.length + 1);
+        result[suggestions.length] = added;
+        return result;
+    }
+
+    private static Suggestion[] without(Suggestion[] suggestions, Suggestion removed) {
+        return Arrays.stream(suggestions)
+                .filter(suggestion -> !suggestion.sameEntry(removed))
+                .toArray(Suggestion[]::new);
+    }
+
+    private record EntryKey(SuggestionType type, Long id) {
+    }
+
+    private static final class Node {
+        private String label;
+        private Node[] children = NO_CHILDREN;      // 간선 첫 글자 순으로 정렬
+        private Suggestion[] terminals = NO_SUGGESTIONS;    // 키가 정확히 이 노드에서 끝나는 항목
+        private Suggestion[] top = NO_SUGGESTIONS;          // 하위 트리 전체의 상위 topK
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private int childIndex(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].label.charAt(0);
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void addChild(int position, Node child) {
+            Node[] result = new Node[children.length + 1];
+            System.arraycopy(children, 0, result, 0, position);
+            result[position] = child;
+            System.arraycopy(children, position, result, position + 1, children.length - position);
+            children = result;
+        }
+
+        private void removeChild(Node child) {
+            children = Arrays.stream(children).filter(node -> node != child).toArray(Node[]::new);
+        }
+    }
+}
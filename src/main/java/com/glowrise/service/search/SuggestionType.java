@@ -0,0 +1,10 @@
+package com.glowrise.service.search;
+
+/**
+ * 자동완성 항목 종류
+ */
+public enum SuggestionType {
+    POST,   // 게시글 제목
+    USER,   // 사용자 닉네임
+    BLOG    // 블로그 이름
+}
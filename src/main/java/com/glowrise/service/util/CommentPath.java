@@ -0,0 +1,53 @@
+package com.glowrise.service.util;
+
+import com.glowrise.service.exception.CommentDepthExceededException;
+
+/**
+ * 댓글 구체화 경로(materialized path). 루트부터 자기 자신까지의 댓글 ID를 고정 폭 10자리 숫자로 이어 붙인다.
+ * 예) 루트 12 → "0000000012", 그 답글 345 → "00000000120000000345"
+ * 고정 폭 숫자라 문자열 정렬이 곧 스레드 순서(부모 다음 자식, 형제는 ID 순)이고,
+ * 한 댓글의 하위 트리는 그 경로로 시작하는 연속 구간이므로 (post_id, path) 인덱스 범위 하나로 읽힌다.
+ */
+public final class CommentPath {
+
+    public static final int SEGMENT_LENGTH = 10;
+    public static final int MAX_LENGTH = 500; // Comment.path 컬럼 길이
+    public static final int MAX_DEPTH = MAX_LENGTH / SEGMENT_LENGTH;
+
+    private static final long MAX_ID = 9_999_999_999L;
+
+    private CommentPath() {
+    }
+
+    /**
+     * @param parentPath 부모 댓글의 경로, 최상위 댓글이면 null
+     */
+    public static String child(String parentPath, long id) {
+        if (id <= 0 || id > MAX_ID) {
+            throw new IllegalArgumentException("경로로 표현할 수 없는 댓글 ID입니다: " + id);
+        }
+        if (!canAddChild(parentPath)) {
+            throw depthExceeded();
+        }
+        String parent = parentPath != null ? parentPath : "";
+        return parent + String.format("%0" + SEGMENT_LENGTH + "d", id);
+    }
+
+    /**
+     * 이 경로 아래에 답글을 더 달 수 있는지 (최대 깊이를 넘지 않는지) 확인한다.
+     */
+    public static boolean canAddChild(String parentPath) {
+        return parentPath == null || parentPath.length() + SEGMENT_LENGTH <= MAX_LENGTH;
+    }
+
+    public static CommentDepthExceededException depthExceeded() {
+        return new CommentDepthExceededException("답글은 최대 " + MAX_DEPTH + "단계까지 달 수 있습니다.");
+    }
+
+    /**
+     * 최상위 댓글이 0이다.
+     */
+    public static int depth(String path) {
+        return path.length() / SEGMENT_LENGTH - 1;
+    }
+}
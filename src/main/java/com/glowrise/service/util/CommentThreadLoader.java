@@ -0,0 +1,280 @@
+package com.glowrise.service.util;
+
+import com.glowrise.domain.QComment;
+import com.glowrise.domain.QUser;
+import com.glowrise.service.dto.CommentDTO;
+import com.glowrise.service.dto.CursorSliceDTO;
+import com.glowrise.service.exception.InvalidCursorException;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 목록을 커서 단위로 읽는다. 최상위 댓글과 답글 모두 (createdDate, id) 오름차순이며,
+ * (post_id, parent_id, created_date, id) 인덱스 범위를 그대로 따라 읽는다.
+ * 최상위 댓글 한 페이지는 댓글(1) + 답글 미리보기(1) + 답글 수(1)로 페이지 크기와 무관하게 쿼리 3번에 끝난다.
+ * 깊이에 상관없는 하위 트리 조회는 구체화 경로(CommentPath)의 (post_id, path) 인덱스 범위로 읽는다.
+ * 하위 트리 조회에는 이전 전체 트리 조회의 제한을 그대로 둔다. max-depth보다 깊은 답글은 그 깊이로 표시하고(parentId는 실제 부모),
+ * 하위 댓글 수는 max-tree-size개까지만 센다.
+ */
+@Component
+public class CommentThreadLoader {
+
+    // 최상위 댓글마다 앞쪽 답글 :limit개. 부모별 순번은 창 함수로 DB에서 매기므로 나머지 답글은 전송하지 않는다.
+    private static final String REPLY_PREVIEW_QUERY = """
+            select r.id, r.content, r.parentId, r.deleted, r.createdDate, r.lastModifiedDate,
+                   r.userId, r.authorName, r.email
+            from (
+                select c.id as id, c.content as content, c.parent.id as parentId, c.deleted as deleted,
+                       c.createdDate as createdDate, c.lastModifiedDate as lastModifiedDate,
+                       u.id as userId, coalesce(u.nickName, u.username) as authorName, u.email as email,
+                       row_number() over (partition by c.parent.id order by c.createdDate, c.id) as rowNumber
+                from Comment c join c.user u
+                where c.post.id = :postId and c.parent.id in :parentIds
+            ) r
+            where r.rowNumber <= :limit
+            order by r.parentId, r.createdDate, r.id""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JPAQueryFactory queryFactory;
+    private final int replyPreviewSize;
+    private final int maxTreeSize;
+    private final int maxDepth;
+
+    public CommentThreadLoader(JPAQueryFactory queryFactory,
+                               @Value("${glowrise.comment.reply-preview-size:3}") int replyPreviewSize,
+                               @Value("${glowrise.comment.max-tree-size:2000}") int maxTreeSize,
+                               @Value("${glowrise.comment.max-depth:10}") int maxDepth) {
+        if (replyPreviewSize < 0) {
+            throw new IllegalArgumentException("답글 미리보기 수는 0 이상이어야 합니다: " + replyPreviewSize);
+        }
+        if (maxTreeSize < 1 || maxDepth < 1) {
+            throw new IllegalArgumentException("댓글 트리 최대 크기와 깊이는 1 이상이어야 합니다: " + maxTreeSize + ", " + maxDepth);
+        }
+        this.queryFactory = queryFactory;
+        this.replyPreviewSize = replyPreviewSize;
+        this.maxTreeSize = maxTreeSize;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * 게시글의 최상위 댓글 한 페이지. 각 댓글에 답글 수(replyCount)와 앞쪽 답글(replies),
+     * 이어서 답글을 읽을 커서(replyCursor, 모두 포함했으면 null)를 채운다.
+     */
+    public CursorSliceDTO<CommentDTO> loadRoots(Long postId, String cursor, int size) {
+        QComment comment = QComment.comment;
+        CursorSliceDTO<CommentDTO> slice = slice(postId, comment.parent.isNull(), cursor, size);
+        List<CommentDTO> roots = slice.getContent();
+        if (roots.isEmpty()) {
+            return slice;
+        }
+
+        Map<Long, CommentDTO> byId = new HashMap<>();
+        roots.forEach(root -> byId.put(root.getId(), root));
+        if (replyPreviewSize > 0) {
+            for (CommentDTO reply : loadPreviews(postId, byId.keySet())) {
+                byId.get(reply.getParentId()).getReplies().add(reply);
+            }
+        }
+
+        List<CommentDTO> all = new ArrayList<>(roots);
+        roots.forEach(root -> all.addAll(root.getReplies()));
+        fillReplyCounts(postId, all);
+
+        for (CommentDTO root : roots) {
+            List<CommentDTO> replies = root.getReplies();
+            if (root.getReplyCount() > replies.size() && !replies.isEmpty()) {
+                CommentDTO last = replies.get(replies.size() - 1);
+                root.setReplyCursor(new KeysetCursor(last.getCreatedAt(), last.getId()).encode());
+            }
+        }
+        return slice;
+    }
+
+    /**
+     * 한 댓글의 바로 아래 답글 한 페이지. 각 답글에는 답글 수만 채운다.
+     *
+     * @param postId 부모 댓글의 게시글 ID (인덱스 앞쪽 컬럼)
+     */
+    public CursorSliceDTO<CommentDTO> loadReplies(Long postId, Long parentId, String cursor, int size) {
+        CursorSliceDTO<CommentDTO> slice = slice(postId, QComment.comment.parent.id.eq(parentId), cursor, size);
+        fillReplyCounts(postId, slice.getContent());
+        return slice;
+    }
+
+    /**
+     * path의 댓글과 그 아래 모든 답글 한 페이지를 스레드 순서(path 오름차순)로 읽는다. 깊이와 상관없이
+     * (post_id, path) 인덱스의 접두사 범위 하나만 읽으며, 커서는 마지막으로 받은 댓글의 경로다.
+     * 첫 페이지에서는 맨 앞의 요청한 댓글에 전체 하위 댓글 수를 채운다.
+     * 요청한 댓글 기준 깊이(depth)는 max-depth를 넘지 않는다.
+     */
+    public CursorSliceDTO<CommentDTO> loadThread(Long postId, String path, String cursor, int size) {
+        QComment comment = QComment.comment;
+        QUser user = QUser.user;
+
+        BooleanBuilder where = new BooleanBuilder(comment.post.id.eq(postId)).and(comment.path.startsWith(path));
+        if (StringUtils.hasText(cursor)) {
+            where.and(comment.path.gt(decodePathCursor(cursor, path)));
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(comment.id, comment.content, comment.parent.id, comment.deleted,
+                        comment.createdDate, comment.lastModifiedDate,
+                        user.id, user.nickName.coalesce(user.username), user.email, comment.path)
+                .from(comment)
+                .join(comment.user, user)
+                .where(where)
+                .orderBy(comment.path.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        int rootDepth = CommentPath.depth(path);
+        List<CommentDTO> comments = new ArrayList<>(Math.min(rows.size(), size));
+        String lastPath = null;
+        for (Tuple row : rows.subList(0, Math.min(rows.size(), size))) {
+            CommentDTO dto = toDto(postId, row.toArray());
+            lastPath = row.get(comment.path);
+            dto.setDepth(Math.min(CommentPath.depth(lastPath) - rootDepth, maxDepth));
+            comments.add(dto);
+        }
+        if (!StringUtils.hasText(cursor) && !comments.isEmpty()) {
+            comments.get(0).setDescendantCount(countDescendants(postId, path));
+        }
+        String nextCursor = hasNext ? encodePathCursor(lastPath) : null;
+        return new CursorSliceDTO<>(comments, comments.size(), hasNext, nextCursor);
+    }
+
+    /**
+     * 모든 깊이의 하위 댓글 수 (삭제 표시된 댓글 포함). 자기 자신은 경로가 접두사 자체라 path > 접두사로 뺀다.
+     * 큰 스레드에서 인덱스 범위 전체를 세지 않도록 max-tree-size + 1개까지만 읽으며,
+     * max-tree-size보다 많으면 max-tree-size + 1을 반환한다 ("그 이상"으로 표시).
+     */
+    public long countDescendants(Long postId, String path) {
+        QComment comment = QComment.comment;
+        return queryFactory
+                .select(comment.id)
+                .from(comment)
+                .where(comment.post.id.eq(postId), comment.path.startsWith(path), comment.path.gt(path))
+                .limit(maxTreeSize + 1L)
+                .fetch()
+                .size();
+    }
+
+    private CursorSliceDTO<CommentDTO> slice(Long postId, Predicate parentCondition, String cursor, int size) {
+        QComment comment = QComment.comment;
+        QUser user = QUser.user;
+
+        BooleanBuilder where = new BooleanBuilder(comment.post.id.eq(postId)).and(parentCondition);
+        if (StringUtils.hasText(cursor)) {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            where.and(comment.createdDate.gt(position.getTime())
+                    .or(comment.createdDate.eq(position.getTime()).and(comment.id.gt(position.getId()))));
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(comment.id, comment.content, comment.parent.id, comment.deleted,
+                        comment.createdDate, comment.lastModifiedDate,
+                        user.id, user.nickName.coalesce(user.username), user.email)
+                .from(comment)
+                .join(comment.user, user)
+                .where(where)
+                .orderBy(comment.createdDate.asc(), comment.id.asc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<CommentDTO> comments = new ArrayList<>(Math.min(rows.size(), size));
+        for (Tuple row : rows.subList(0, Math.min(rows.size(), size))) {
+            comments.add(toDto(postId, row.toArray()));
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            CommentDTO last = comments.get(comments.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorSliceDTO<>(comments, comments.size(), hasNext, nextCursor);
+    }
+
+    private List<CommentDTO> loadPreviews(Long postId, Collection<Long> parentIds) {
+        List<Object[]> rows = entityManager.createQuery(REPLY_PREVIEW_QUERY, Object[].class)
+                .setParameter("postId", postId)
+                .setParameter("parentIds", parentIds)
+                .setParameter("limit", (long) replyPreviewSize)
+                .getResultList();
+        List<CommentDTO> replies = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            replies.add(toDto(postId, row));
+        }
+        return replies;
+    }
+
+    private void fillReplyCounts(Long postId, List<CommentDTO> comments) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        QComment comment = QComment.comment;
+        List<Long> ids = comments.stream().map(CommentDTO::getId).toList();
+        Map<Long, Long> counts = new HashMap<>();
+        queryFactory
+                .select(comment.parent.id, comment.count())
+                .from(comment)
+                .where(comment.post.id.eq(postId), comment.parent.id.in(ids))
+                .groupBy(comment.parent.id)
+                .fetch()
+                .forEach(row -> counts.put(row.get(0, Long.class), row.get(1, Long.class)));
+        comments.forEach(dto -> dto.setReplyCount(counts.getOrDefault(dto.getId(), 0L)));
+    }
+
+    private static String encodePathCursor(String path) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(path.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String decodePathCursor(String cursor, String rootPath) {
+        String path;
+        try {
+            path = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("잘못된 커서입니다: " + cursor, e);
+        }
+        if (!path.startsWith(rootPath)) {
+            throw new InvalidCursorException("잘못된 커서입니다: " + cursor);
+        }
+        return path;
+    }
+
+    /**
+     * 열 순서: id, content, parentId, deleted, createdDate, lastModifiedDate, userId, authorName, email
+     */
+    private static CommentDTO toDto(Long postId, Object[] row) {
+        CommentDTO dto = new CommentDTO();
+        dto.setId((Long) row[0]);
+        dto.setContent((String) row[1]);
+        dto.setPostId(postId);
+        dto.setParentId((Long) row[2]);
+        dto.setDeleted(Boolean.TRUE.equals(row[3]));
+        dto.setCreatedAt((LocalDateTime) row[4]);
+        dto.setUpdatedAt((LocalDateTime) row[5]);
+        dto.setUserId((Long) row[6]);
+        dto.setAuthorName((String) row[7]);
+        dto.setEmail((String) row[8]);
+        return dto;
+    }
+}
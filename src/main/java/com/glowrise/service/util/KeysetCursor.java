@@ -0,0 +1,52 @@
+package com.glowrise.service.util;
+
+import com.glowrise.service.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 페이징용 위치 값 (정렬 시각, id). 게시글 목록은 lastModifiedDate, 댓글 목록은 createdDate를 정렬 시각으로 쓴다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 전달해 내부 구조에 의존하지 않도록 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime time;
+    private final Long id;
+
+    public String encode() {
+        String raw = time + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidCursorException 형식이 올바르지 않은 커서
+     */
+    public static KeysetCursor decode(String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("잘못된 커서입니다: " + cursor, e);
+        }
+        int delimiterIndex = raw.lastIndexOf(DELIMITER);
+        if (delimiterIndex < 0) {
+            throw new InvalidCursorException("잘못된 커서입니다: " + cursor);
+        }
+        try {
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.valueOf(raw.substring(delimiterIndex + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidCursorException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.glowrise.service.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.glowrise.domain.QMenu;
+import com.glowrise.service.event.MenuChangedEvent;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 블로그별 메뉴 트리 스냅샷.
+ * 메뉴 구조는 자주 바뀌지 않으므로 블로그 단위로 한 번 읽어 메모리에 두고, 변경 이벤트(커밋 후)나 최대 보관 시간 경과 시 다시 읽는다.
+ * 변경은 Redis 채널로 다른 인스턴스에도 알려 각자 스냅샷을 버리게 하며, 알림을 놓쳐도 없는 메뉴를 찾으면 한 번 다시 읽는다.
+ * 하위 메뉴 조회는 DB 왕복 없이 서브트리 크기만큼만 순회한다.
+ */
+@Component
+@Slf4j
+public class MenuTreeCache {
+
+    public static final String INVALIDATE_CHANNEL = "menu-tree:invalidate";
+    // 존재하지 않는 메뉴 ID 요청이 반복되어도 블로그당 이 간격보다 자주 다시 읽지 않는다.
+    private static final long MISS_RELOAD_INTERVAL_MS = 5_000;
+
+    private final JPAQueryFactory queryFactory;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<Long, MenuTree> trees;
+
+    public MenuTreeCache(JPAQueryFactory queryFactory, RedisTemplate<String, String> redisTemplate,
+                         RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry,
+                         @Value("${glowrise.menu-tree.max-age-seconds:300}") long maxAgeSeconds,
+                         @Value("${glowrise.menu-tree.max-cached-blogs:10000}") long maxCachedBlogs) {
+        this.queryFactory = queryFactory;
+        this.redisTemplate = redisTemplate;
+        this.trees = Caffeine.newBuilder()
+                .maximumSize(maxCachedBlogs)
+                .expireAfterWrite(Duration.ofSeconds(maxAgeSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, trees, "menuTree");
+        listenerContainer.addMessageListener(this::onInvalidateMessage, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 블로그의 전체 메뉴를 정렬 순서(orderIndex)대로 반환한다.
+     */
+    public List<MenuNode> getMenus(Long blogId) {
+        return getTree(blogId).menus();
+    }
+
+    /**
+     * 메뉴 자신과 모든 하위 메뉴(깊이 제한 없음)의 ID를 반환한다. 해당 블로그의 메뉴가 아니면 빈 목록.
+     * 스냅샷에 없는 메뉴는 다른 인스턴스에서 방금 만들어졌을 수 있으므로, 빈 목록을 반환하기 전에 한 번 다시 읽어 확인한다.
+     */
+    public List<Long> getDescendantIds(Long blogId, Long menuId) {
+        MenuTree tree = getTree(blogId);
+        if (!tree.byId().containsKey(menuId)) {
+            if (System.currentTimeMillis() - tree.loadedAt() < MISS_RELOAD_INTERVAL_MS) {
+                return List.of();
+            }
+            // 같은 스냅샷을 본 요청들 중 하나만 버리고, 나머지는 그 요청이 다시 읽은 스냅샷을 함께 쓴다.
+            trees.asMap().remove(blogId, tree);
+            tree = getTree(blogId);
+            if (!tree.byId().containsKey(menuId)) {
+                return List.of();
+            }
+        }
+        // 잘못 저장된 순환 구조가 있어도 끝나도록 방문한 메뉴는 다시 보지 않는다.
+        Set<Long> visited = new LinkedHashSet<>();
+        Deque<Long> pending = new ArrayDeque<>();
+        pending.push(menuId);
+        while (!pending.isEmpty()) {
+            Long current = pending.pop();
+            if (visited.add(current)) {
+                tree.byId().get(current).childIds().forEach(pending::push);
+            }
+        }
+        return new ArrayList<>(visited);
+    }
+
+    public void invalidate(Long blogId) {
+        trees.invalidate(blogId);
+    }
+
+    /**
+     * 이 인스턴스의 스냅샷을 바로 버리고, 다른 인스턴스에도 Redis 채널로 알린다.
+     * 알림이 실패하면 다른 인스턴스는 최대 보관 시간이 지나거나 없는 메뉴를 만날 때 다시 읽는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        invalidate(event.getBlogId());
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(event.getBlogId()));
+        } catch (DataAccessException e) {
+            log.warn("메뉴 트리 무효화 알림 실패 (blogId: {}): {}", event.getBlogId(), e.getMessage());
+        }
+    }
+
+    // 자기 인스턴스가 보낸 알림도 받지만, 이미 버린 스냅샷을 한 번 더 버릴 뿐이다.
+    private void onInvalidateMessage(Message message, byte[] pattern) {
+        String blogId = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidate(Long.valueOf(blogId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 메뉴 트리 무효화 알림: {}", blogId);
+        }
+    }
+
+    // 같은 블로그에 대한 적재와 무효화는 Caffeine이 키 단위로 직렬화하므로,
+    // 적재 도중 들어온 무효화는 적재가 끝난 뒤 반영되어 이전 구조가 남지 않는다.
+    private MenuTree getTree(Long blogId) {
+        return trees.get(blogId, this::load);
+    }
+
+    private MenuTree load(Long blogId) {
+        QMenu menu = QMenu.menu;
+        QMenu parent = new QMenu("parent");
+
+        List<Tuple> rows = queryFactory
+                .select(menu.id, menu.name, menu.orderIndex, parent.id)
+                .from(menu)
+                .leftJoin(menu.parent, parent)
+                .where(menu.blog.id.eq(blogId))
+                .orderBy(menu.orderIndex.asc(), menu.id.asc())
+                .fetch();
+
+        Map<Long, List<Long>> childIdsByParent = new HashMap<>();
+        for (Tuple row : rows) {
+            Long parentId = row.get(parent.id);
+            if (parentId != null) {
+                childIdsByParent.computeIfAbsent(parentId, key -> new ArrayList<>()).add(row.get(menu.id));
+            }
+        }
+
+        List<MenuNode> menus = new ArrayList<>(rows.size());
+        Map<Long, MenuNode> byId = new HashMap<>();
+        for (Tuple row : rows) {
+            Long id = row.get(menu.id);
+            MenuNode node = new MenuNode(id, row.get(menu.name), row.get(menu.orderIndex), row.get(parent.id),
+                    List.copyOf(childIdsByParent.getOrDefault(id, List.of())));
+            menus.add(node);
+            byId.put(id, node);
+        }
+        return new MenuTree(List.copyOf(menus), Map.copyOf(byId), System.currentTimeMillis());
+    }
+
+    public record MenuNode(Long id, String name, Integer orderIndex, Long parentId, List<Long> childIds) {
+    }
+
+    private record MenuTree(List<MenuNode> menus, Map<Long, MenuNode> byId, long loadedAt) {
+    }
+}
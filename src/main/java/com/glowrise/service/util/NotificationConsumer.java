@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
@@ -27,12 +28,13 @@ public class NotificationConsumer {
     private final SimpMessagingTemplate messagingTemplate;
 
     @KafkaListener(topics = "notification-topic", groupId = "notification-group")
+    @Transactional
     public void consumeNotification(NotificationEvent event) {
         User user = userRepository.findById(event.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + event.getUserId()));
 
         Post post = event.getPostId() != null
-                ? postRepository.findById(event.getPostId())
+                ? postRepository.findWithMenuAndBlogById(event.getPostId())
                 .orElse(null) // 게시글이 없을 수도 있으므로 null 처리 유지
                 : null;
 
@@ -0,0 +1,86 @@
+package com.glowrise.service.util;
+
+/**
+ * 게시글 하나의 최근 활동(조회/댓글)을 분 단위, 시간 단위 링 버퍼로 보관한다.
+ * 슬롯마다 기록된 시각(epoch 분/시)을 함께 저장해, 한 바퀴 지난 슬롯은 다음 기록 시 초기화된다.
+ */
+public class PostActivityCounter {
+
+    public static final int MINUTE_SLOTS = 60;      // 최근 60분
+    public static final int HOUR_SLOTS = 24 * 7;    // 최근 7일
+
+    private final long[] minuteStamps = new long[MINUTE_SLOTS];
+    private final int[] minuteViews = new int[MINUTE_SLOTS];
+    private final int[] minuteComments = new int[MINUTE_SLOTS];
+
+    private final long[] hourStamps = new long[HOUR_SLOTS];
+    private final int[] hourViews = new int[HOUR_SLOTS];
+    private final int[] hourComments = new int[HOUR_SLOTS];
+
+    private volatile long lastActivityMinute;
+
+    /**
+     * @param epochMinute 활동 시각 (epoch 분)
+     * @param views       조회 증감
+     * @param comments    댓글 증감 (삭제 시 음수)
+     */
+    public synchronized void record(long epochMinute, int views, int comments) {
+        int minuteSlot = (int) (epochMinute % MINUTE_SLOTS);
+        if (minuteStamps[minuteSlot] != epochMinute) {
+            minuteStamps[minuteSlot] = epochMinute;
+            minuteViews[minuteSlot] = 0;
+            minuteComments[minuteSlot] = 0;
+        }
+        minuteViews[minuteSlot] += views;
+        minuteComments[minuteSlot] += comments;
+
+        long epochHour = epochMinute / 60;
+        int hourSlot = (int) (epochHour % HOUR_SLOTS);
+        if (hourStamps[hourSlot] != epochHour) {
+            hourStamps[hourSlot] = epochHour;
+            hourViews[hourSlot] = 0;
+            hourComments[hourSlot] = 0;
+        }
+        hourViews[hourSlot] += views;
+        hourComments[hourSlot] += comments;
+
+        lastActivityMinute = epochMinute;
+    }
+
+    /**
+     * 분 단위 버킷으로 최근 windowMinutes분의 감쇠 점수를 계산한다.
+     * 각 버킷은 경과 시간에 따라 halfLifeMinutes마다 절반으로 줄어든다.
+     */
+    public synchronized double decayedScoreByMinute(long nowMinute, int windowMinutes, double halfLifeMinutes,
+                                                    double viewWeight, double commentWeight) {
+        return decayedScore(minuteStamps, minuteViews, minuteComments, nowMinute,
+                Math.min(windowMinutes, MINUTE_SLOTS), halfLifeMinutes, viewWeight, commentWeight);
+    }
+
+    /**
+     * 시간 단위 버킷으로 최근 windowHours시간의 감쇠 점수를 계산한다.
+     */
+    public synchronized double decayedScoreByHour(long nowHour, int windowHours, double halfLifeHours,
+                                                  double viewWeight, double commentWeight) {
+        return decayedScore(hourStamps, hourViews, hourComments, nowHour,
+                Math.min(windowHours, HOUR_SLOTS), halfLifeHours, viewWeight, commentWeight);
+    }
+
+    public long getLastActivityMinute() {
+        return lastActivityMinute;
+    }
+
+    private static double decayedScore(long[] stamps, int[] views, int[] comments, long now, int window,
+                                       double halfLife, double viewWeight, double commentWeight) {
+        double score = 0;
+        for (int slot = 0; slot < stamps.length; slot++) {
+            long age = now - stamps[slot];
+            if (age < 0 || age >= window) {
+                continue;
+            }
+            double raw = views[slot] * viewWeight + comments[slot] * commentWeight;
+            score += raw * Math.pow(0.5, age / halfLife);
+        }
+        return Math.max(score, 0);
+    }
+}
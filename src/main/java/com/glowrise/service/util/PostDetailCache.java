@@ -0,0 +1,200 @@
+package com.glowrise.service.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.glowrise.service.dto.PostDTO;
+import com.glowrise.service.event.PostChangedEvent;
+import com.glowrise.service.mapper.PostMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세(PostDTO) 캐시. 로컬(Caffeine) → Redis → DB 순으로 조회한다.
+ * 조회수, 고유 조회자 수, 댓글 수처럼 자주 바뀌는 값은 저장하지 않고 호출부가 매번 채운다.
+ * 캐시된 값은 게시글의 수정 시각과 파일 수가 현재 값과 같을 때만 사용하므로,
+ * 무효화 이벤트가 늦거나 다른 인스턴스에서 변경되어도 이전 내용이 보이지 않는다.
+ */
+@Component
+@Slf4j
+public class PostDetailCache {
+
+    private static final String DETAIL_KEY_FORMAT = "post:detail:%d";
+    private static final int BASE_ENTRY_WEIGHT = 512;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PostMapper postMapper;
+    private final Cache<Long, PostDTO> localCache;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Counter staleCounter;
+
+    @Value("${glowrise.post-detail.redis-ttl-seconds:3600}")
+    private long redisTtlSeconds;
+
+    @Value("${glowrise.post-detail.redis-max-entry-bytes:524288}")
+    private int redisMaxEntryBytes;
+
+    public PostDetailCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, PostMapper postMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${glowrise.post-detail.local-max-weight-bytes:67108864}") long localMaxWeightBytes,
+                           @Value("${glowrise.post-detail.local-ttl-seconds:600}") long localTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.postMapper = postMapper;
+        // 항목 수가 아닌 대략적인 메모리 크기로 제한해 본문이 긴 게시글 몇 개가 캐시를 차지하지 않도록 한다.
+        this.localCache = Caffeine.newBuilder()
+                .maximumWeight(localMaxWeightBytes)
+                .weigher((Long postId, PostDTO dto) -> weigh(dto))
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "postDetail");
+        this.redisHitCounter = Counter.builder("glowrise.post-detail.redis")
+                .tag("result", "hit")
+                .description("로컬 캐시에 없어 Redis에서 찾은 게시글 상세 수")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("glowrise.post-detail.redis")
+                .tag("result", "miss")
+                .description("Redis에도 없어 DB에서 조회한 게시글 상세 수")
+                .register(meterRegistry);
+        this.staleCounter = Counter.builder("glowrise.post-detail.stale")
+                .description("수정 시각/파일 수가 달라 버린 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("glowrise.post-detail.hit.ratio", localCache, cache -> cache.stats().hitRate())
+                .tag("tier", "local")
+                .description("로컬 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("glowrise.post-detail.hit.ratio", this, PostDetailCache::redisHitRatio)
+                .tag("tier", "redis")
+                .description("로컬 캐시 미적중 중 Redis 적중 비율")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 게시글 상세를 반환하고, 없거나 현재 게시글과 다르면 loader로 읽어 캐시한다.
+     * 반환값은 복사본이므로 호출부가 조회수 등을 채워도 캐시에는 영향이 없다.
+     *
+     * @param lastModifiedDate 게시글의 현재 수정 시각
+     * @param fileCount        게시글의 현재 첨부 파일 수
+     * @param loader           DB에서 게시글 상세를 만드는 함수
+     */
+    public PostDTO get(Long postId, LocalDateTime lastModifiedDate, Long fileCount, Supplier<PostDTO> loader) {
+        PostDTO cached = localCache.getIfPresent(postId);
+        if (cached != null && !isCurrent(cached, lastModifiedDate, fileCount)) {
+            staleCounter.increment();
+            localCache.invalidate(postId);
+            cached = null;
+        }
+        if (cached == null) {
+            cached = readRedis(postId, lastModifiedDate, fileCount);
+            if (cached == null) {
+                cached = stripLiveCounts(loader.get());
+                writeRedis(postId, cached);
+            }
+            localCache.put(postId, cached);
+        }
+        return postMapper.copy(cached);
+    }
+
+    public void evict(Long postId) {
+        localCache.invalidate(postId);
+        try {
+            redisTemplate.delete(String.format(DETAIL_KEY_FORMAT, postId));
+        } catch (DataAccessException e) {
+            // 남은 Redis 항목은 수정 시각 비교로 걸러지고 TTL이 지나면 사라진다.
+            log.warn("게시글 상세 캐시 삭제 실패 (postId: {})", postId, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        evict(event.getPostId());
+    }
+
+    private PostDTO readRedis(Long postId, LocalDateTime lastModifiedDate, Long fileCount) {
+        String json;
+        try {
+            json = redisTemplate.opsForValue().get(String.format(DETAIL_KEY_FORMAT, postId));
+        } catch (DataAccessException e) {
+            log.warn("게시글 상세 캐시를 Redis에서 조회하지 못해 DB에서 조회합니다. (postId: {})", postId, e);
+            return null;
+        }
+        if (json == null) {
+            redisMissCounter.increment();
+            return null;
+        }
+        try {
+            PostDTO dto = objectMapper.readValue(json, PostDTO.class);
+            if (isCurrent(dto, lastModifiedDate, fileCount)) {
+                redisHitCounter.increment();
+                return dto;
+            }
+            staleCounter.increment();
+        } catch (JsonProcessingException e) {
+            log.warn("게시글 상세 캐시 역직렬화 실패 (postId: {})", postId, e);
+        }
+        redisMissCounter.increment();
+        return null;
+    }
+
+    private void writeRedis(Long postId, PostDTO dto) {
+        try {
+            String json = objectMapper.writeValueAsString(dto);
+            // 매우 큰 게시글은 Redis 메모리를 많이 차지하고 전송 비용도 커서 로컬 캐시에만 둔다.
+            if (json.getBytes(StandardCharsets.UTF_8).length > redisMaxEntryBytes) {
+                return;
+            }
+            redisTemplate.opsForValue().set(String.format(DETAIL_KEY_FORMAT, postId), json,
+                    Duration.ofSeconds(redisTtlSeconds));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("게시글 상세 캐시 저장 실패 (postId: {})", postId, e);
+        }
+    }
+
+    private boolean isCurrent(PostDTO dto, LocalDateTime lastModifiedDate, Long fileCount) {
+        return Objects.equals(dto.getUpdatedAt(), lastModifiedDate) && Objects.equals(dto.getFileCount(), fileCount);
+    }
+
+    private PostDTO stripLiveCounts(PostDTO dto) {
+        PostDTO stored = postMapper.copy(dto);
+        stored.setViewCount(null);
+        stored.setUniqueViewerCount(null);
+        stored.setCommentCount(null);
+        return stored;
+    }
+
+    private double redisHitRatio() {
+        double hits = redisHitCounter.count();
+        double total = hits + redisMissCounter.count();
+        return total > 0 ? hits / total : 0;
+    }
+
+    // 문자열은 UTF-16 기준 글자당 2바이트로 계산한 근사치
+    private static int weigh(PostDTO dto) {
+        long chars = length(dto.getTitle()) + length(dto.getContent()) + length(dto.getContentSnippet());
+        long ids = (dto.getFileIds() != null ? dto.getFileIds().size() : 0)
+                + (dto.getInlineImageFileIds() != null ? dto.getInlineImageFileIds().size() : 0);
+        return (int) Math.min(Integer.MAX_VALUE, BASE_ENTRY_WEIGHT + chars * 2 + ids * 16);
+    }
+
+    private static long length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
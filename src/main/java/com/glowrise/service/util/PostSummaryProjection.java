@@ -0,0 +1,50 @@
+package com.glowrise.service.util;
+
+import com.glowrise.domain.QBlog;
+import com.glowrise.domain.QMenu;
+import com.glowrise.domain.QPost;
+import com.glowrise.domain.QUser;
+import com.glowrise.service.dto.PostSummaryDTO;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+/**
+ * 게시글 목록/검색 공통 조회. 본문(content) 없이 목록에 필요한 컬럼만 PostSummaryDTO 생성자 프로젝션으로 읽는다.
+ * 조인 별칭은 QPost.post, QMenu.menu, QBlog.blog, AUTHOR이며 조건/정렬은 호출부가 붙인다.
+ */
+public final class PostSummaryProjection {
+
+    public static final QUser AUTHOR = new QUser("author");
+
+    private PostSummaryProjection() {
+    }
+
+    public static JPQLQuery<PostSummaryDTO> select(JPAQueryFactory queryFactory) {
+        QPost post = QPost.post;
+        QMenu menu = QMenu.menu;
+        QBlog blog = QBlog.blog;
+
+        return queryFactory
+                .select(Projections.constructor(PostSummaryDTO.class,
+                        post.id,
+                        post.title,
+                        post.snippet.coalesce(""),
+                        menu.id,
+                        menu.name,
+                        blog.id,
+                        blog.url,
+                        AUTHOR.id,
+                        AUTHOR.nickName,
+                        post.viewCount.coalesce(0L),
+                        post.commentCount,
+                        post.fileCount,
+                        post.wordCount.coalesce(0),
+                        post.createdDate,
+                        post.lastModifiedDate))
+                .from(post)
+                .join(post.menu, menu)
+                .join(menu.blog, blog)
+                .join(post.author, AUTHOR);
+    }
+}
@@ -0,0 +1,60 @@
+package com.glowrise.service.util;
+
+import org.jsoup.Jsoup;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 게시글 HTML 본문에서 목록/검색에 쓰는 텍스트를 뽑아낸다.
+ * 저장 시점에 한 번만 계산해 두고, 조회 시에는 본문을 읽지 않도록 한다.
+ */
+@Component
+public class PostTextExtractor {
+
+    public static final int SNIPPET_MAX_LENGTH = 150;
+
+    /**
+     * HTML을 한 번만 파싱해 본문 텍스트, 요약, 단어 수를 함께 계산한다.
+     */
+    public PostText extract(String html) {
+        String plainText = toPlainText(html);
+        return new PostText(plainText, snippetOf(plainText), countWords(plainText));
+    }
+
+    public String toPlainText(String html) {
+        if (!StringUtils.hasText(html)) {
+            return "";
+        }
+        return Jsoup.parse(html).text();
+    }
+
+    public String snippet(String html) {
+        return snippetOf(toPlainText(html));
+    }
+
+    private String snippetOf(String plainText) {
+        return plainText.length() > SNIPPET_MAX_LENGTH
+                ? plainText.substring(0, SNIPPET_MAX_LENGTH) + "..."
+                : plainText;
+    }
+
+    // 공백으로 구분된 어절 수. Jsoup의 text()는 연속 공백을 하나로 정규화한다.
+    private int countWords(String plainText) {
+        if (plainText.isBlank()) {
+            return 0;
+        }
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < plainText.length(); i++) {
+            boolean whitespace = Character.isWhitespace(plainText.charAt(i));
+            if (!whitespace && !inWord) {
+                words++;
+            }
+            inWord = !whitespace;
+        }
+        return words;
+    }
+
+    public record PostText(String plainText, String snippet, int wordCount) {
+    }
+}
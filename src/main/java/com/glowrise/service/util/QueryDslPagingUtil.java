@@ -1,17 +1,61 @@
 package com.glowrise.service.util;
 
 import com.querydsl.jpa.JPQLQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 @Component
 public class QueryDslPagingUtil {
+
+    private static final int MAX_CACHED_TOTALS = 10_000;
+
+    private final Map<String, CachedTotal> cachedTotals = new ConcurrentHashMap<>();
+    private final Timer baseCountTimer;
+    private final Timer suppliedCountTimer;
+    private final Counter skippedShortPageCounter;
+    private final Counter cacheHitCounter;
+    private final Counter savedTimeCounter;
+
+    @Value("${glowrise.paging.count-cache-ttl-seconds:60}")
+    private long countCacheTtlSeconds;
+
+    public QueryDslPagingUtil(MeterRegistry meterRegistry) {
+        this.baseCountTimer = Timer.builder("glowrise.paging.count.duration")
+                .tag("source", "base")
+                .description("목록 쿼리로 전체 개수를 센 시간")
+                .register(meterRegistry);
+        this.suppliedCountTimer = Timer.builder("glowrise.paging.count.duration")
+                .tag("source", "supplied")
+                .description("호출부가 넘긴 개수 전용 쿼리로 전체 개수를 센 시간")
+                .register(meterRegistry);
+        this.skippedShortPageCounter = Counter.builder("glowrise.paging.count.skipped")
+                .tag("reason", "short_page")
+                .description("결과만으로 전체 개수를 알 수 있어 생략한 개수 쿼리 수")
+                .register(meterRegistry);
+        this.cacheHitCounter = Counter.builder("glowrise.paging.count.skipped")
+                .tag("reason", "cache_hit")
+                .description("캐시된 전체 개수를 사용해 생략한 개수 쿼리 수")
+                .register(meterRegistry);
+        this.savedTimeCounter = Counter.builder("glowrise.paging.count.saved.ms")
+                .description("생략한 개수 쿼리의 예상 소요 시간 합계 (개수 쿼리 평균 시간 기준)")
+                .register(meterRegistry);
+    }
+
     /**
      * QueryDSL을 사용한 공통 페이징 처리
+     * 조회 결과만으로 전체 개수를 알 수 있는 경우(첫 페이지가 덜 찼거나 마지막 페이지)에는 개수 쿼리를 생략한다.
      *
      * @param baseQuery 기본 쿼리
      * @param pageable  페이징 정보
@@ -19,15 +63,88 @@ public class QueryDslPagingUtil {
      * @return 페이징된 DTO 목록
      */
     public <T> Page<T> getPage(JPQLQuery<T> baseQuery, Pageable pageable) {
+        return getPage(baseQuery, pageable, baseCountTimer, () -> timed(baseCountTimer, baseQuery::fetchCount));
+    }
+
+    /**
+     * 개수 전용 쿼리를 사용하는 페이징 처리.
+     * fetch join이나 정렬 없이 조건에 필요한 조인만 둔 가벼운 count 쿼리를 넘긴다.
+     *
+     * @param countQuery 전체 개수를 반환하는 쿼리 (예: select(post.count()))
+     */
+    public <T> Page<T> getPage(JPQLQuery<T> baseQuery, Pageable pageable, JPQLQuery<Long> countQuery) {
+        return getPage(baseQuery, pageable, suppliedCountTimer, () -> timed(suppliedCountTimer, () -> fetchTotal(countQuery)));
+    }
+
+    /**
+     * 전체 개수를 cacheKey 단위로 일정 시간 캐시하는 페이징 처리. (근사치 허용)
+     * 캐시 만료 전에는 새 글이 추가되어도 이전 개수가 보일 수 있으므로 목록의 총 개수가 정확할 필요가 없는 곳에서만 사용한다.
+     *
+     * @param cacheKey 조건을 구분하는 키 (예: 블로그 ID, 메뉴 ID, 검색어 조합)
+     */
+    public <T> Page<T> getPage(JPQLQuery<T> baseQuery, Pageable pageable, JPQLQuery<Long> countQuery, String cacheKey) {
+        return getPage(baseQuery, pageable, suppliedCountTimer, () -> cachedTotal(cacheKey, suppliedCountTimer,
+                () -> timed(suppliedCountTimer, () -> fetchTotal(countQuery))));
+    }
+
+    private <T> Page<T> getPage(JPQLQuery<T> baseQuery, Pageable pageable, Timer countTimer, LongSupplier totalSupplier) {
         // 페이징 적용 및 결과 조회
         List<T> results = baseQuery
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 전체 개수 조회
-        long total = baseQuery.fetchCount();
+        // 전체 개수 조회 (필요한 경우에만 실행됨)
+        boolean[] counted = {false};
+        Page<T> page = PageableExecutionUtils.getPage(results, pageable, () -> {
+            counted[0] = true;
+            return totalSupplier.getAsLong();
+        });
+        if (!counted[0]) {
+            skippedShortPageCounter.increment();
+            recordSavedTime(countTimer);
+        }
+        return page;
+    }
+
+    private long cachedTotal(String cacheKey, Timer countTimer, LongSupplier loader) {
+        long now = System.currentTimeMillis();
+        CachedTotal cached = cachedTotals.get(cacheKey);
+        if (cached != null && cached.expiresAt() > now) {
+            cacheHitCounter.increment();
+            recordSavedTime(countTimer);
+            return cached.total();
+        }
+        long total = loader.getAsLong();
+        if (cachedTotals.size() >= MAX_CACHED_TOTALS) {
+            cachedTotals.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (cachedTotals.size() >= MAX_CACHED_TOTALS) {
+                cachedTotals.clear();
+            }
+        }
+        cachedTotals.put(cacheKey, new CachedTotal(total, now + TimeUnit.SECONDS.toMillis(countCacheTtlSeconds)));
+        return total;
+    }
+
+    private long fetchTotal(JPQLQuery<Long> countQuery) {
+        Long total = countQuery.fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    private long timed(Timer timer, LongSupplier counter) {
+        long startedAt = System.nanoTime();
+        try {
+            return counter.getAsLong();
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 생략한 개수 쿼리가 실행됐다면 걸렸을 시간을 같은 방식의 개수 쿼리 평균 시간으로 추정한다.
+    private void recordSavedTime(Timer countTimer) {
+        savedTimeCounter.increment(countTimer.mean(TimeUnit.MILLISECONDS));
+    }
 
-        return new PageImpl<>(results, pageable, total);
+    private record CachedTotal(long total, long expiresAt) {
     }
-}
\ No newline at end of file
+}
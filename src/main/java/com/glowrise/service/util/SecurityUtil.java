@@ -40,8 +40,7 @@ public class SecurityUtil {
 
     public Optional<Long> getCurrentUserId() {
         return getCurrentUsername()
-                .flatMap(userRepository::findByUsername)
-                .map(User::getId);
+                .flatMap(userRepository::findIdByUsername);
     }
 
     public Optional<User> getCurrentUser() {
@@ -0,0 +1,83 @@
+package com.glowrise.service.util;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글별 미반영 조회수를 메모리에 모아두는 버퍼.
+ * 인기 게시글에 요청이 몰려도 LongAdder의 셀 단위 분산으로 경합을 줄인다.
+ */
+@Component
+public class ViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+    private final AtomicLong oldestPendingAt = new AtomicLong(0L);
+    // 직전 drain에서 맵에서 뺀 유휴 LongAdder. 제거 직전에 참조를 얻은 increment가 뒤늦게 더한 값을 다음 drain에서 회수한다.
+    private Map<Long, LongAdder> retired = new HashMap<>();
+
+    public void increment(Long postId) {
+        pendingCounts.computeIfAbsent(postId, id -> new LongAdder()).increment();
+        oldestPendingAt.compareAndSet(0L, System.currentTimeMillis());
+    }
+
+    public long getPendingCount(Long postId) {
+        LongAdder adder = pendingCounts.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 증가분을 꺼내고 0으로 초기화한다.
+     * 직전 주기 동안 증가가 없던 항목은 computeIfPresent로 합이 0일 때만 원자적으로 제거한다.
+     * 제거 직전에 computeIfAbsent로 같은 LongAdder를 받아 둔 increment는 제거 뒤에 더해질 수 있으므로,
+     * 제거한 LongAdder를 한 주기 보관했다가 다음 drain에서 남은 값을 함께 꺼낸다. 스케줄러 단일 스레드에서만 호출한다.
+     *
+     * @return 게시글 ID별 증가분 (0인 항목 제외)
+     */
+    public Map<Long, Long> drain() {
+        oldestPendingAt.set(0L);
+        Map<Long, Long> drained = new HashMap<>();
+        Map<Long, LongAdder> previouslyRetired = retired;
+        retired = new HashMap<>();
+        previouslyRetired.forEach((postId, adder) -> {
+            long late = adder.sum();
+            if (late > 0) {
+                drained.merge(postId, late, Long::sum);
+            }
+        });
+        pendingCounts.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                drained.merge(postId, delta, Long::sum);
+            } else if (pendingCounts.computeIfPresent(postId, (id, current) -> current == adder && current.sum() == 0 ? null : current) == null) {
+                retired.put(postId, adder);
+            }
+        });
+        return drained;
+    }
+
+    /**
+     * DB 반영에 실패한 증가분을 버퍼에 되돌린다.
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((postId, delta) -> pendingCounts.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+        if (!deltas.isEmpty()) {
+            oldestPendingAt.compareAndSet(0L, System.currentTimeMillis());
+        }
+    }
+
+    public int size() {
+        return pendingCounts.size();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 가장 오래된 증가분이 쌓이기 시작한 시각 (없으면 0)
+     */
+    public long getOldestPendingAt() {
+        return oldestPendingAt.get();
+    }
+}
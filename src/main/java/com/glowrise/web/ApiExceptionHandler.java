@@ -0,0 +1,50 @@
+package com.glowrise.web;
+
+import com.glowrise.service.exception.CommentDepthExceededException;
+import com.glowrise.service.exception.CommentPathPendingException;
+import com.glowrise.service.exception.ContentTooLargeException;
+import com.glowrise.service.exception.InvalidCursorException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * 클라이언트 입력 오류로 판단되는 예외를 500 대신 4xx 응답으로 바꾼다.
+ * /error 경로는 인증이 필요하므로 기본 오류 처리로 넘기지 않고 여기서 바로 응답한다.
+ */
+@RestControllerAdvice
+@Slf4j
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCursor(InvalidCursorException e) {
+        log.debug("잘못된 커서 요청: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(ContentTooLargeException.class)
+    public ResponseEntity<Map<String, String>> handleContentTooLarge(ContentTooLargeException e) {
+        log.warn("본문 길이 초과로 거부: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(CommentDepthExceededException.class)
+    public ResponseEntity<Map<String, String>> handleCommentDepthExceeded(CommentDepthExceededException e) {
+        log.debug("최대 깊이를 넘는 답글 요청: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    // 기동 직후 경로 채우기가 끝나지 않은 댓글. 곧 채워지므로 다시 시도할 시점을 알려 준다.
+    @ExceptionHandler(CommentPathPendingException.class)
+    public ResponseEntity<Map<String, String>> handleCommentPathPending(CommentPathPendingException e) {
+        log.debug("경로 채우기 전 댓글의 스레드 요청: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of("error", e.getMessage()));
+    }
+}
@@ -2,18 +2,20 @@ package com.glowrise.web;
 
 import com.glowrise.service.CommentService;
 import com.glowrise.service.dto.CommentDTO;
+import com.glowrise.service.dto.CursorSliceDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 @RestController
 @RequestMapping("/api/comments")
 @RequiredArgsConstructor
 public class CommentController {
 
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final CommentService commentService;
 
     @PostMapping
@@ -52,21 +54,43 @@ public class CommentController {
         return ResponseEntity.noContent().build();
     }
 
+    // 최상위 댓글 커서 목록 (각 댓글에 답글 수와 앞쪽 답글 몇 개 포함)
     @GetMapping("/post/{postId}")
-    public ResponseEntity<List<CommentDTO>> getCommentsByPostId(@PathVariable Long postId) {
-        List<CommentDTO> comments = commentService.getCommentsByPostId(postId);
+    public ResponseEntity<CursorSliceDTO<CommentDTO>> getCommentsByPostId(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceDTO<CommentDTO> comments = commentService.getCommentsByPostId(postId, cursor, clampSliceSize(size));
         return ResponseEntity.ok(comments);
     }
 
+    // 답글 커서 목록 (첫 요청은 댓글 목록의 replyCursor부터)
     @GetMapping("/{commentId}/replies")
-    public ResponseEntity<List<CommentDTO>> getRepliesByCommentId(@PathVariable Long commentId) {
-        List<CommentDTO> replies = commentService.getRepliesByCommentId(commentId);
+    public ResponseEntity<CursorSliceDTO<CommentDTO>> getRepliesByCommentId(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceDTO<CommentDTO> replies = commentService.getRepliesByCommentId(commentId, cursor, clampSliceSize(size));
         return ResponseEntity.ok(replies);
     }
 
+    // 댓글과 모든 하위 답글을 스레드 순서로 (깊이 포함)
+    @GetMapping("/{commentId}/thread")
+    public ResponseEntity<CursorSliceDTO<CommentDTO>> getThread(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorSliceDTO<CommentDTO> thread = commentService.getThread(commentId, cursor, clampSliceSize(size));
+        return ResponseEntity.ok(thread);
+    }
+
     @GetMapping("/{commentId}")
     public ResponseEntity<CommentDTO> getCommentById(@PathVariable Long commentId) {
         CommentDTO comment = commentService.getCommentById(commentId);
         return ResponseEntity.ok(comment);
     }
-}
\ No newline at end of file
+
+    private int clampSliceSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+    }
+}
@@ -1,8 +1,11 @@
 package com.glowrise.web;
 
 import com.glowrise.domain.enumerate.TimePeriod;
+import com.glowrise.service.PopularPostRankingService;
 import com.glowrise.service.PostService;
+import com.glowrise.service.dto.CursorSliceDTO;
 import com.glowrise.service.dto.PostDTO;
+import com.glowrise.service.dto.PostSummaryDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,12 +21,16 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
 public class PostController {
 
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final PostService postService;
+    private final PopularPostRankingService popularPostRankingService;
 
     @PostMapping(consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
     @PreAuthorize("isAuthenticated()")
@@ -56,14 +63,14 @@ public class PostController {
     }
 
     @GetMapping
-    public ResponseEntity<List<PostDTO>> getAllPosts() {
-        List<PostDTO> posts = postService.getAllPosts();
+    public ResponseEntity<List<PostSummaryDTO>> getAllPosts() {
+        List<PostSummaryDTO> posts = postService.getAllPosts();
         return ResponseEntity.ok(posts);
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<PostDTO>> getPostsByUserId(@PathVariable Long userId) {
-        List<PostDTO> posts = postService.getPostsByUserId(userId);
+    public ResponseEntity<List<PostSummaryDTO>> getPostsByUserId(@PathVariable Long userId) {
+        List<PostSummaryDTO> posts = postService.getPostsByUserId(userId);
         return ResponseEntity.ok(posts);
     }
 
@@ -72,38 +79,66 @@ public class PostController {
             @PathVariable Long postId,
             HttpServletRequest request,
             Authentication authentication) {
-        String clientIp = request.getRemoteAddr();
-        String forwardedFor = request.getHeader("X-Forwarded-For");
-        if (forwardedFor != null && !forwardedFor.isEmpty()) {
-            clientIp = forwardedFor.split(",")[0].trim();
-        }
+        String clientIp = request.getRemoteAddr(); // 프록시 헤더는 server.forward-headers-strategy로 반영됨
         PostDTO post = postService.getPostById(postId, clientIp, authentication);
         return ResponseEntity.ok(post);
     }
 
     @GetMapping("/getPopular")
-    public ResponseEntity<List<PostDTO>> getPopularPosts(
+    public ResponseEntity<List<PostSummaryDTO>> getPopularPosts(
             @RequestParam(defaultValue = "WEEKLY") TimePeriod period) {
-        List<PostDTO> posts = postService.getPopularPostsByRecentModification(period, 10);
+        List<PostSummaryDTO> posts = postService.getPopularPostsByRecentModification(period, 10);
         return ResponseEntity.ok(posts);
     }
 
+    @PostMapping("/getPopular/rebuild")
+    @PreAuthorize("hasRole('ADMIN')") // 관리자 권한 필요
+    public ResponseEntity<Map<String, Object>> rebuildPopularPosts(@RequestParam TimePeriod period) {
+        int rankedPostCount = popularPostRankingService.rebuild(period);
+        return ResponseEntity.ok(Map.of("period", period, "rankedPostCount", rankedPostCount));
+    }
+
     @GetMapping("/blog/{blogId}/{menuId}")
-    public ResponseEntity<Page<PostDTO>> getPostsByBlogIdAndMenuId(
+    public ResponseEntity<Page<PostSummaryDTO>> getPostsByBlogIdAndMenuId(
             @PathVariable Long blogId,
             @PathVariable Long menuId,
             @RequestParam(required = false) String searchKeyword,
             @PageableDefault(size = 20, sort = "updatedAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<PostDTO> posts = postService.getPosts(blogId, menuId, searchKeyword, pageable);
+        Page<PostSummaryDTO> posts = postService.getPosts(blogId, menuId, searchKeyword, pageable);
         return ResponseEntity.ok(posts);
     }
 
     @GetMapping("/blog/{blogId}")
-    public ResponseEntity<Page<PostDTO>> getPostsByBlogId(
+    public ResponseEntity<Page<PostSummaryDTO>> getPostsByBlogId(
             @PathVariable Long blogId,
             @RequestParam(required = false) String searchKeyword,
             @PageableDefault(size = 20, sort = "updatedAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<PostDTO> posts = postService.getPosts(blogId, null, searchKeyword, pageable);
+        Page<PostSummaryDTO> posts = postService.getPosts(blogId, null, searchKeyword, pageable);
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping("/blog/{blogId}/slice")
+    public ResponseEntity<CursorSliceDTO<PostSummaryDTO>> getPostSliceByBlogId(
+            @PathVariable Long blogId,
+            @RequestParam(required = false) String searchKeyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceDTO<PostSummaryDTO> posts = postService.getPostSlice(blogId, null, searchKeyword, cursor, clampSliceSize(size));
         return ResponseEntity.ok(posts);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/blog/{blogId}/{menuId}/slice")
+    public ResponseEntity<CursorSliceDTO<PostSummaryDTO>> getPostSliceByBlogIdAndMenuId(
+            @PathVariable Long blogId,
+            @PathVariable Long menuId,
+            @RequestParam(required = false) String searchKeyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceDTO<PostSummaryDTO> posts = postService.getPostSlice(blogId, menuId, searchKeyword, cursor, clampSliceSize(size));
+        return ResponseEntity.ok(posts);
+    }
+
+    private int clampSliceSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+    }
+}
@@ -1,29 +1,81 @@
 package com.glowrise.web;
 
+import com.glowrise.service.PostIndexRebuildService;
 import com.glowrise.service.SearchService;
+import com.glowrise.service.SearchSuggestionService;
+import com.glowrise.service.dto.IndexRebuildStatusDTO;
 import com.glowrise.service.dto.SearchResultDTO;
+import com.glowrise.service.dto.SuggestionDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/search")
 @RequiredArgsConstructor
 public class SearchController {
 
     private final SearchService searchService;
+    private final SearchSuggestionService searchSuggestionService;
+    private final PostIndexRebuildService postIndexRebuildService;
 
+    // 게시글: page, size / 사용자: users_page, users_size
     @GetMapping
     public ResponseEntity<SearchResultDTO> search(
             @RequestParam String query,
-            @PageableDefault(size = 10, sort = "createdDate,desc") Pageable pageable) {
+            @PageableDefault(size = 10) Pageable pageable,
+            @Qualifier("users") @PageableDefault(size = 10) Pageable userPageable) {
 
-        SearchResultDTO results = searchService.searchIntegrated(query, pageable);
+        SearchResultDTO results = searchService.searchIntegrated(query, pageable, userPageable);
         return ResponseEntity.ok(results);
     }
-}
\ No newline at end of file
+
+    // 검색창 자동완성 (게시글 제목, 사용자 닉네임, 블로그 이름)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(searchSuggestionService.suggest(query, limit));
+    }
+
+    // 게시글 검색 색인 전체 재구축 시작 (resume=true면 마지막 체크포인트부터 이어서)
+    @PostMapping("/index/rebuild")
+    @PreAuthorize("hasRole('ADMIN')") // 관리자 권한 필요
+    public ResponseEntity<IndexRebuildStatusDTO> rebuildIndex(
+            @RequestParam(defaultValue = "false") boolean resume,
+            @RequestParam(required = false) Long afterId) {
+
+        boolean started = postIndexRebuildService.start(resume, afterId);
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(postIndexRebuildService.getStatus());
+    }
+
+    // 재구축 진행 상황 (처리 수, 처리 속도, 남은 시간)
+    @GetMapping("/index/rebuild")
+    @PreAuthorize("hasRole('ADMIN')") // 관리자 권한 필요
+    public ResponseEntity<IndexRebuildStatusDTO> getRebuildStatus() {
+        return ResponseEntity.ok(postIndexRebuildService.getStatus());
+    }
+
+    // 재구축 중단 (체크포인트까지는 유지됨)
+    @DeleteMapping("/index/rebuild")
+    @PreAuthorize("hasRole('ADMIN')") // 관리자 권한 필요
+    public ResponseEntity<IndexRebuildStatusDTO> cancelRebuild() {
+        boolean cancelled = postIndexRebuildService.cancel();
+        return ResponseEntity.status(cancelled ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(postIndexRebuildService.getStatus());
+    }
+}
@@ -0,0 +1,123 @@
+package com.glowrise.config.ratelimit;
+
+import com.glowrise.config.jwt.dto.CustomOAuthUser;
+import com.glowrise.config.ratelimit.RateLimitProperties.KeyType;
+import com.glowrise.config.ratelimit.RateLimitProperties.Policy;
+import com.glowrise.service.dto.UserDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 정책별 키 구성(USER 정책의 비로그인 요청은 IP)과, 한 요청에 걸린 정책 중 하나라도 넘으면 429로 거부하는지 검증한다.
+ */
+class RateLimitFilterTest {
+
+    private static final String CLIENT_IP = "203.0.113.5";
+    private static final RateLimiter.Decision ALLOWED = new RateLimiter.Decision(true, 5, 0, RateLimiter.Backend.REDIS);
+
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void userPolicyKeysByUserIdWhenLoggedInAndByIpOtherwise() throws Exception {
+        RateLimitFilter filter = filter(policy("comment-create", KeyType.USER, 10, 20));
+        when(rateLimiter.tryAcquire(eq("comment-create:ip:" + CLIENT_IP), anyInt(), anyInt())).thenReturn(ALLOWED);
+        when(rateLimiter.tryAcquire(eq("comment-create:user:7"), anyInt(), anyInt())).thenReturn(ALLOWED);
+
+        MockFilterChain anonymousChain = new MockFilterChain();
+        filter.doFilter(commentRequest(), new MockHttpServletResponse(), anonymousChain);
+
+        UserDTO user = new UserDTO();
+        user.setUserId(7L);
+        CustomOAuthUser principal = new CustomOAuthUser(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+        MockFilterChain userChain = new MockFilterChain();
+        filter.doFilter(commentRequest(), new MockHttpServletResponse(), userChain);
+
+        verify(rateLimiter).tryAcquire("comment-create:ip:" + CLIENT_IP, 10, 20);
+        verify(rateLimiter).tryAcquire("comment-create:user:7", 10, 20);
+        assertThat(anonymousChain.getRequest()).isNotNull();
+        assertThat(userChain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void rejectsWhenAnyMatchingPolicyIsExhausted() throws Exception {
+        RateLimitFilter filter = filter(
+                policy("comment-create", KeyType.USER, 10, 20),
+                policy("comment-create-ip", KeyType.IP, 30, 60));
+        when(rateLimiter.tryAcquire(eq("comment-create:ip:" + CLIENT_IP), anyInt(), anyInt())).thenReturn(ALLOWED);
+        when(rateLimiter.tryAcquire(eq("comment-create-ip:ip:" + CLIENT_IP), anyInt(), anyInt()))
+                .thenReturn(new RateLimiter.Decision(false, 0, 1500, RateLimiter.Backend.LOCAL));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(commentRequest(), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2"); // 1.5초 → 올림
+        assertThat(response.getContentAsString()).contains("comment-create-ip");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(meterRegistry.counter("glowrise.ratelimit.throttled",
+                "policy", "comment-create-ip", "subject", "ip", "backend", "local").count()).isEqualTo(1);
+    }
+
+    @Test
+    void requestsOutsidePoliciesPassWithoutConsultingLimiter() throws Exception {
+        RateLimitFilter filter = filter(policy("comment-create", KeyType.USER, 10, 20));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/comments/post/1");
+        request.setServletPath("/api/comments/post/1");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        verifyNoInteractions(rateLimiter);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private RateLimitFilter filter(Policy... policies) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(policies));
+        return new RateLimitFilter(rateLimiter, properties, meterRegistry);
+    }
+
+    private static Policy policy(String name, KeyType key, int capacity, int perMinute) {
+        Policy policy = new Policy();
+        policy.setName(name);
+        policy.setMethod("POST");
+        policy.setPatterns(List.of("/api/comments", "/api/comments/*/reply"));
+        policy.setKey(key);
+        policy.setCapacity(capacity);
+        policy.setPerMinute(perMinute);
+        return policy;
+    }
+
+    private static MockHttpServletRequest commentRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/comments");
+        request.setServletPath("/api/comments");
+        request.setRemoteAddr(CLIENT_IP);
+        request.addHeader("X-Forwarded-For", "198.51.100.1"); // 클라이언트가 넣은 값은 키에 쓰지 않는다
+        return request;
+    }
+}
@@ -0,0 +1,78 @@
+package com.glowrise.config.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.glowrise.config.ratelimit.RateLimiterTest.properties;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Redis(컨테이너)에서 TOKEN_BUCKET_SCRIPT로 인스턴스 간 버킷 공유, Retry-After, 보충을 검증한다. Docker가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimiterRedisTest {
+
+    private static final String KEY = "comment-create:user:1";
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flushDb() {
+        connectionFactory.getConnection().serverCommands().flushDb();
+    }
+
+    @Test
+    void bucketIsSharedAcrossInstancesAndRefillsAfterRetryAfter() throws InterruptedException {
+        RateLimiter first = new RateLimiter(redisTemplate, properties(5000), new SimpleMeterRegistry());
+        RateLimiter second = new RateLimiter(redisTemplate, properties(5000), new SimpleMeterRegistry());
+
+        RateLimiter.Decision allowed = first.tryAcquire(KEY, 2, 600);
+        assertThat(allowed.allowed()).isTrue();
+        assertThat(allowed.backend()).isEqualTo(RateLimiter.Backend.REDIS);
+        assertThat(allowed.remaining()).isEqualTo(1);
+        assertThat(second.tryAcquire(KEY, 2, 600).allowed()).isTrue();
+
+        RateLimiter.Decision rejected = first.tryAcquire(KEY, 2, 600);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMs()).isBetween(1L, 100L); // 분당 600개 = 100ms에 1개
+        // 버킷이 가득 찰 때까지(2개 / 100ms당 1개)만 남는다.
+        assertThat(redisTemplate.getExpire("ratelimit:" + KEY, TimeUnit.MILLISECONDS)).isBetween(1L, 200L);
+
+        Thread.sleep(rejected.retryAfterMs() + 20);
+
+        assertThat(second.tryAcquire(KEY, 2, 600).allowed()).isTrue();
+    }
+}
@@ -0,0 +1,109 @@
+package com.glowrise.config.ratelimit;
+
+import com.glowrise.config.RedisConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * Redis 호출이 실패하거나 응답하지 않을 때 로컬 버킷으로 판단하고, redis-retry-after-ms가 지나야 Redis를 다시 시도하는지 검증한다.
+ * Redis 버킷 자체는 RateLimiterRedisTest에서 실제 Redis로 검증한다.
+ */
+class RateLimiterTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> failingRedis = mock(RedisTemplate.class, invocation -> {
+        throw new RedisConnectionFailureException("연결 실패");
+    });
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void fallsBackToLocalBucketAndSkipsRedisUntilRetryTime() {
+        RateLimiter rateLimiter = new RateLimiter(failingRedis, properties(60_000), meterRegistry);
+
+        RateLimiter.Decision first = rateLimiter.tryAcquire("login:ip:10.0.0.1", 2, 60);
+        RateLimiter.Decision second = rateLimiter.tryAcquire("login:ip:10.0.0.1", 2, 60);
+        RateLimiter.Decision third = rateLimiter.tryAcquire("login:ip:10.0.0.1", 2, 60);
+
+        assertThat(first.allowed()).isTrue();
+        assertThat(first.backend()).isEqualTo(RateLimiter.Backend.LOCAL);
+        assertThat(second.allowed()).isTrue();
+        assertThat(third.allowed()).isFalse();
+        assertThat(third.retryAfterMs()).isBetween(1L, 1000L); // 분당 60개 = 1초에 1개
+        assertThat(mockingDetails(failingRedis).getInvocations()).hasSize(1);
+        assertThat(meterRegistry.counter("glowrise.ratelimit.redis.failures").count()).isEqualTo(1);
+    }
+
+    @Test
+    void retriesRedisOnceRetryTimeHasPassed() {
+        RateLimiter rateLimiter = new RateLimiter(failingRedis, properties(0), meterRegistry);
+
+        rateLimiter.tryAcquire("login:ip:10.0.0.1", 2, 60);
+        rateLimiter.tryAcquire("login:ip:10.0.0.1", 2, 60);
+
+        assertThat(mockingDetails(failingRedis).getInvocations()).hasSize(2);
+        assertThat(meterRegistry.counter("glowrise.ratelimit.redis.failures").count()).isEqualTo(2);
+    }
+
+    @Test
+    void localBucketRefillsAfterRetryAfter() throws InterruptedException {
+        RateLimiter rateLimiter = new RateLimiter(failingRedis, properties(60_000), meterRegistry);
+
+        assertThat(rateLimiter.tryAcquire("search:user:1", 1, 600).allowed()).isTrue();
+        RateLimiter.Decision rejected = rateLimiter.tryAcquire("search:user:1", 1, 600);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMs()).isBetween(1L, 100L); // 분당 600개 = 100ms에 1개
+        assertThat(rateLimiter.tryAcquire("search:user:2", 1, 600).allowed()).isTrue(); // 키마다 따로 센다
+
+        Thread.sleep(rejected.retryAfterMs() + 20);
+
+        assertThat(rateLimiter.tryAcquire("search:user:1", 1, 600).allowed()).isTrue();
+    }
+
+    @Test
+    void unresponsiveRedisFallsBackWithinCommandTimeout() throws IOException {
+        // 연결은 받지만 아무 응답도 하지 않는 Redis
+        try (ServerSocket silentRedis = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            LettuceConnectionFactory connectionFactory = RedisConfig.lettuceConnectionFactory(
+                    "127.0.0.1", silentRedis.getLocalPort(), Duration.ofMillis(300), Duration.ofSeconds(1));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            try {
+                RedisTemplate<String, String> slowRedis = new RedisTemplate<>();
+                slowRedis.setConnectionFactory(connectionFactory);
+                slowRedis.setDefaultSerializer(new StringRedisSerializer());
+                slowRedis.afterPropertiesSet();
+                RateLimiter rateLimiter = new RateLimiter(slowRedis, properties(60_000), meterRegistry);
+
+                long startedAt = System.nanoTime();
+                RateLimiter.Decision decision = rateLimiter.tryAcquire("login:ip:10.0.0.1", 2, 60);
+                long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+                assertThat(decision.allowed()).isTrue();
+                assertThat(decision.backend()).isEqualTo(RateLimiter.Backend.LOCAL);
+                assertThat(elapsedMs).isLessThan(3_000); // Lettuce 기본값(60초)이 아니라 설정한 제한 시간 안에 넘어간다
+                assertThat(meterRegistry.counter("glowrise.ratelimit.redis.failures").count()).isEqualTo(1);
+            } finally {
+                connectionFactory.destroy();
+            }
+        }
+    }
+
+    static RateLimitProperties properties(long redisRetryAfterMs) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRedisRetryAfterMs(redisRetryAfterMs);
+        return properties;
+    }
+}
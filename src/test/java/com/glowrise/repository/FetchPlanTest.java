@@ -0,0 +1,309 @@
+package com.glowrise.repository;
+
+import com.glowrise.domain.Blog;
+import com.glowrise.domain.Comment;
+import com.glowrise.domain.Menu;
+import com.glowrise.domain.Notification;
+import com.glowrise.domain.Post;
+import com.glowrise.domain.StoredFile;
+import com.glowrise.domain.User;
+import com.glowrise.config.JpaConfig;
+import com.glowrise.config.QueryDslConfig;
+import com.glowrise.domain.enumerate.NotificationType;
+import com.glowrise.service.dto.CommentDTO;
+import com.glowrise.service.dto.CursorSliceDTO;
+import com.glowrise.service.util.CommentPath;
+import com.glowrise.service.util.CommentThreadLoader;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 호출되는 조회 경로가 연관 엔티티까지 정해진 수의 SQL로 끝나는지 검증한다.
+ * 조회 후 화면/DTO 변환에서 접근하는 연관관계까지 건드려, 지연 로딩으로 추가 select가 나가지 않는지 함께 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@Import({QueryDslConfig.class, JpaConfig.class, CommentThreadLoader.class})
+class FetchPlanTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JPAQueryFactory queryFactory;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private BlogRepository blogRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private CommentThreadLoader commentThreadLoader;
+
+    private Statistics statistics;
+    private User writer;
+    private Menu menu;
+    private Post post;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        writer = persistUserWithBlog("writer");
+        User reader = persistUserWithBlog("reader");
+
+        menu = new Menu();
+        menu.setName("menu");
+        menu.setOrderIndex(0);
+        menu.setBlog(writer.getBlog());
+        entityManager.persist(menu);
+
+        post = new Post();
+        post.setTitle("title");
+        post.setContent("<p>content</p>");
+        post.setMenu(menu);
+        post.setAuthor(writer);
+        post.setViewCount(0L);
+        entityManager.persist(post);
+
+        for (int i = 0; i < 2; i++) {
+            StoredFile file = new StoredFile();
+            file.setFileName("file" + i + ".png");
+            file.setFilePath("/tmp/file" + i + ".png");
+            file.setContentType("image/png");
+            file.setFileSize(1L);
+            file.setPost(post);
+            entityManager.persist(file);
+        }
+
+        comment = persistComment(writer);
+        persistComment(reader);
+
+        entityManager.persist(Notification.builder()
+                .user(writer)
+                .type(NotificationType.NEW_COMMENT)
+                .message("새 댓글")
+                .post(post)
+                .isRead(false)
+                .deleted(false)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void postDetailLoadsFilesInOneStatement() {
+        long statements = countStatements(() -> {
+            Post found = postRepository.findDetailById(post.getId()).orElseThrow();
+            assertThat(found.getFiles()).hasSize(2);
+            assertThat(found.getMenu().getId()).isEqualTo(menu.getId());
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void ownershipChecksReadOnlyOwnerIds() {
+        long statements = countStatements(() -> {
+            assertThat(postRepository.findAuthorIdById(post.getId())).contains(writer.getId());
+            assertThat(blogRepository.findUserIdById(writer.getBlog().getId())).contains(writer.getId());
+            assertThat(blogRepository.findUserIdByMenuId(menu.getId())).contains(writer.getId());
+            assertThat(commentRepository.findUserIdById(comment.getId())).contains(writer.getId());
+        });
+
+        assertThat(statements).isEqualTo(4);
+    }
+
+    @Test
+    void currentUserLookupJoinsBlog() {
+        long statements = countStatements(() -> {
+            User found = userRepository.findByUsername("writer").orElseThrow();
+            assertThat(found.getBlog().getUrl()).isEqualTo("writer-blog");
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void commentListLoadsAuthorsInOneStatement() {
+        long statements = countStatements(() -> {
+            List<Comment> comments = commentRepository.findByPostIdAndParentIsNull(post.getId());
+            assertThat(comments).extracting(found -> found.getUser().getNickName())
+                    .containsExactlyInAnyOrder("writer", "reader");
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void commentPageLoadsReplyPreviewsAndCountsInThreeStatements() {
+        entityManager.clear();
+        Comment root = entityManager.find(Comment.class, comment.getId());
+        Comment firstReply = persistReply(root, writer);
+        persistReply(firstReply, writer);
+        for (int i = 0; i < 3; i++) {
+            persistReply(root, writer);
+        }
+        entityManager.flush();
+
+        long statements = countStatements(() -> {
+            CursorSliceDTO<CommentDTO> page = commentThreadLoader.loadRoots(post.getId(), null, 20);
+            assertThat(page.getContent()).hasSize(2);
+            CommentDTO first = page.getContent().get(0);
+            assertThat(first.getAuthorName()).isEqualTo("writer");
+            assertThat(first.getReplyCount()).isEqualTo(4);
+            assertThat(first.getReplies()).hasSize(3);
+            assertThat(first.getReplies().get(0).getReplyCount()).isEqualTo(1);
+            assertThat(first.getReplyCursor()).isNotNull();
+        });
+
+        assertThat(statements).isEqualTo(3);
+    }
+
+    @Test
+    void replyPageLoadsCountsInTwoStatements() {
+        entityManager.clear();
+        Comment root = entityManager.find(Comment.class, comment.getId());
+        for (int i = 0; i < 3; i++) {
+            persistReply(root, writer);
+        }
+        entityManager.flush();
+
+        long statements = countStatements(() -> {
+            CursorSliceDTO<CommentDTO> first = commentThreadLoader.loadReplies(post.getId(), root.getId(), null, 2);
+            assertThat(first.getContent()).hasSize(2);
+            assertThat(first.isHasNext()).isTrue();
+        });
+        assertThat(statements).isEqualTo(2);
+
+        CursorSliceDTO<CommentDTO> first = commentThreadLoader.loadReplies(post.getId(), root.getId(), null, 2);
+        CursorSliceDTO<CommentDTO> rest = commentThreadLoader.loadReplies(post.getId(), root.getId(), first.getNextCursor(), 2);
+        assertThat(rest.getContent()).hasSize(1);
+        assertThat(rest.isHasNext()).isFalse();
+    }
+
+    @Test
+    void commentThreadReadsSubtreeInPathOrder() {
+        entityManager.clear();
+        Comment root = entityManager.find(Comment.class, comment.getId());
+        root.setPath(CommentPath.child(null, root.getId()));
+        Comment firstReply = persistReply(root, writer);
+        Comment nested = persistReply(firstReply, writer);
+        Comment secondReply = persistReply(root, writer);
+        entityManager.flush();
+
+        long statements = countStatements(() -> {
+            CursorSliceDTO<CommentDTO> thread = commentThreadLoader.loadThread(post.getId(), root.getPath(), null, 20);
+            assertThat(thread.getContent()).extracting(CommentDTO::getId)
+                    .containsExactly(root.getId(), firstReply.getId(), nested.getId(), secondReply.getId());
+            assertThat(thread.getContent()).extracting(CommentDTO::getDepth).containsExactly(0, 1, 2, 1);
+            assertThat(thread.getContent().get(0).getDescendantCount()).isEqualTo(3);
+        });
+
+        assertThat(statements).isEqualTo(2);
+    }
+
+    @Test
+    void commentThreadKeepsDepthAndDescendantCountGuards() {
+        entityManager.clear();
+        Comment root = entityManager.find(Comment.class, comment.getId());
+        root.setPath(CommentPath.child(null, root.getId()));
+        Comment reply = persistReply(root, writer);
+        Comment nested = persistReply(reply, writer);
+        Comment deeper = persistReply(nested, writer);
+        entityManager.flush();
+        CommentThreadLoader guarded = new CommentThreadLoader(queryFactory, 3, 2, 2);
+
+        long statements = countStatements(() -> {
+            CursorSliceDTO<CommentDTO> thread = guarded.loadThread(post.getId(), root.getPath(), null, 20);
+            assertThat(thread.getContent()).extracting(CommentDTO::getId)
+                    .containsExactly(root.getId(), reply.getId(), nested.getId(), deeper.getId());
+            assertThat(thread.getContent()).extracting(CommentDTO::getDepth).containsExactly(0, 1, 2, 2);
+            assertThat(thread.getContent().get(3).getParentId()).isEqualTo(nested.getId()); // 표시 깊이만 제한
+            assertThat(thread.getContent().get(0).getDescendantCount()).isEqualTo(3); // max-tree-size + 1에서 멈춤
+        });
+
+        assertThat(statements).isEqualTo(2);
+    }
+
+    @Test
+    void notificationListLoadsPostMenuAndBlogInOneStatement() {
+        long statements = countStatements(() -> {
+            List<Notification> notifications =
+                    notificationRepository.findByUserIdAndDeletedFalseAndIsReadFalseOrderByCreatedDateDesc(writer.getId());
+            assertThat(notifications).hasSize(1);
+            assertThat(notifications.get(0).getPost().getMenu().getBlog().getUrl()).isEqualTo("writer-blog");
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void notificationPostLookupLoadsMenuAndBlogInOneStatement() {
+        long statements = countStatements(() -> {
+            Post found = postRepository.findWithMenuAndBlogById(post.getId()).orElseThrow();
+            assertThat(found.getMenu().getBlog().getUrl()).isEqualTo("writer-blog");
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User persistUserWithBlog(String username) {
+        User user = new User(username, username + "@glowrise.com", "password");
+        user.setNickName(username);
+        entityManager.persist(user);
+
+        Blog blog = new Blog();
+        blog.setTitle(username + " blog");
+        blog.setUrl(username + "-blog");
+        blog.setUser(user);
+        user.setBlog(blog);
+        entityManager.persist(blog);
+        return user;
+    }
+
+    private Comment persistComment(User author) {
+        Comment saved = new Comment();
+        saved.setContent("comment by " + author.getUsername());
+        saved.setPost(post);
+        saved.setUser(author);
+        entityManager.persist(saved);
+        return saved;
+    }
+
+    private Comment persistReply(Comment parent, User author) {
+        Comment reply = persistComment(author);
+        reply.setParent(parent);
+        if (parent.getPath() != null) {
+            reply.setPath(CommentPath.child(parent.getPath(), reply.getId()));
+        }
+        return reply;
+    }
+}
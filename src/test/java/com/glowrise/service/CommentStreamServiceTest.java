@@ -0,0 +1,121 @@
+package com.glowrise.service;
+
+import com.glowrise.service.dto.CommentDTO;
+import com.glowrise.service.dto.CommentDeltaBatchDTO;
+import com.glowrise.service.dto.CommentDeltaDTO;
+import com.glowrise.service.dto.CommentDeltaDTO.Type;
+import com.glowrise.service.event.CommentChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 한 flush 주기 안의 댓글 변경 합치기(작성+수정 → 작성, 무엇이든+삭제 → 삭제)와 max-batch-size 단위 메시지 분할을 검증한다.
+ */
+class CommentStreamServiceTest {
+
+    private static final Long POST_ID = 1L;
+    private static final String DESTINATION = "/topic/posts/1/comments";
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void createThenUpdateIsSentAsCreateWithLatestContent() {
+        CommentStreamService service = new CommentStreamService(messagingTemplate, meterRegistry, 50);
+
+        service.onCommentChanged(event(Type.CREATED, 10L, "처음 내용"));
+        service.onCommentChanged(event(Type.UPDATED, 10L, "고친 내용"));
+        service.flush();
+
+        List<CommentDeltaBatchDTO> batches = sentBatches(1);
+        assertThat(batches.get(0).getPostId()).isEqualTo(POST_ID);
+        assertThat(batches.get(0).getDeltas()).singleElement().satisfies(delta -> {
+            assertThat(delta.getType()).isEqualTo(Type.CREATED);
+            assertThat(delta.getCommentId()).isEqualTo(10L);
+            assertThat(delta.getComment().getContent()).isEqualTo("고친 내용");
+        });
+        assertThat(meterRegistry.counter("glowrise.comment.stream.coalesced").count()).isEqualTo(1);
+    }
+
+    @Test
+    void anyChangeFollowedByDeleteIsSentAsDelete() {
+        CommentStreamService service = new CommentStreamService(messagingTemplate, meterRegistry, 50);
+
+        service.onCommentChanged(event(Type.CREATED, 10L, "작성 후 삭제"));
+        service.onCommentChanged(event(Type.DELETED, 10L, null));
+        service.onCommentChanged(event(Type.UPDATED, 11L, "수정 후 삭제"));
+        service.onCommentChanged(event(Type.DELETED, 11L, null));
+        service.onCommentChanged(event(Type.DELETED, 12L, null));
+        service.onCommentChanged(event(Type.UPDATED, 12L, "삭제 후 늦게 온 수정"));
+        service.flush();
+
+        List<CommentDeltaDTO> deltas = sentBatches(1).get(0).getDeltas();
+        assertThat(deltas).extracting(CommentDeltaDTO::getCommentId).containsExactly(10L, 11L, 12L);
+        assertThat(deltas).allSatisfy(delta -> {
+            assertThat(delta.getType()).isEqualTo(Type.DELETED);
+            assertThat(delta.getComment()).isNull();
+        });
+    }
+
+    @Test
+    void flushSplitsAtMaxBatchSizeKeepingFirstChangeOrder() {
+        CommentStreamService service = new CommentStreamService(messagingTemplate, meterRegistry, 2);
+
+        for (long commentId = 1; commentId <= 5; commentId++) {
+            service.onCommentChanged(event(Type.CREATED, commentId, "댓글 " + commentId));
+        }
+        service.onCommentChanged(event(Type.UPDATED, 1L, "댓글 1 수정")); // 합쳐져도 처음 변경된 위치 유지
+        service.flush();
+
+        List<CommentDeltaBatchDTO> batches = sentBatches(3);
+        assertThat(batches).extracting(batch -> batch.getDeltas().size()).containsExactly(2, 2, 1);
+        assertThat(batches).flatExtracting(CommentDeltaBatchDTO::getDeltas)
+                .extracting(CommentDeltaDTO::getCommentId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(batches.get(0).getDeltas().get(0).getComment().getContent()).isEqualTo("댓글 1 수정");
+        assertThat(meterRegistry.counter("glowrise.comment.stream.messages").count()).isEqualTo(3);
+
+        service.flush();
+
+        verify(messagingTemplate, times(3)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void flushWithoutChangesSendsNothing() {
+        CommentStreamService service = new CommentStreamService(messagingTemplate, meterRegistry, 50);
+
+        service.flush();
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private List<CommentDeltaBatchDTO> sentBatches(int expectedMessages) {
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(expectedMessages)).convertAndSend(eq(DESTINATION), payloads.capture());
+        return payloads.getAllValues().stream().map(CommentDeltaBatchDTO.class::cast).toList();
+    }
+
+    private static CommentChangedEvent event(Type type, Long commentId, String content) {
+        CommentDTO comment = null;
+        if (content != null) {
+            comment = new CommentDTO();
+            comment.setId(commentId);
+            comment.setPostId(POST_ID);
+            comment.setContent(content);
+        }
+        return new CommentChangedEvent(POST_ID, new CommentDeltaDTO(type, commentId, null, comment));
+    }
+}
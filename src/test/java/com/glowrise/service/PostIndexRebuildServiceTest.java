@@ -0,0 +1,39 @@
+package com.glowrise.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재구축 작업 스레드 풀에 허가 수보다 훨씬 많은 묶음을 넣어도 거부되지 않고 모두 처리되는지,
+ * 동시에 잡힌 묶음이 parallelism + queueCapacity개를 넘지 않는지 검증한다.
+ */
+class PostIndexRebuildServiceTest {
+
+    @Test
+    void moreBatchesThanPermitsAreAllProcessedWithoutRejection() throws InterruptedException {
+        int parallelism = 2;
+        int queueCapacity = 1;
+        int batches = 5000;
+        PostIndexRebuildService.BatchWorkers workers = new PostIndexRebuildService.BatchWorkers(parallelism, queueCapacity);
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        for (int i = 0; i < batches; i++) {
+            workers.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.yield();
+                running.decrementAndGet();
+                processed.incrementAndGet();
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination();
+
+        assertThat(processed.get()).isEqualTo(batches);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(parallelism);
+    }
+}
@@ -0,0 +1,193 @@
+package com.glowrise.service;
+
+import com.glowrise.repository.PostRepository;
+import com.glowrise.service.util.ViewCountBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SCRIPT 모드에서 동시 조회가 중복 집계되지 않는지, HLL 모드가 조회자 키 없이 중복을 거르는지 검증한다.
+ * 실제 Redis(컨테이너)에서 RECORD_VIEW_SCRIPT/DRAIN_PENDING_SCRIPT를 그대로 실행한다. Docker가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ViewCountServiceTest {
+
+    private static final Long POST_ID = 1L;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private final Map<Long, Long> persistedViewCounts = new ConcurrentHashMap<>();
+    private ViewCountService viewCountService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushDb();
+
+        PostRepository postRepository = mock(PostRepository.class);
+        doAnswer(invocation -> {
+            List<Long> postIds = invocation.getArgument(0);
+            Long delta = invocation.getArgument(1);
+            postIds.forEach(postId -> persistedViewCounts.merge(postId, delta, Long::sum));
+            return postIds.size();
+        }).when(postRepository).addViewCounts(anyList(), any());
+
+        viewCountService = new ViewCountService(redisTemplate, new ViewCountBuffer(), postRepository,
+                mock(PlatformTransactionManager.class), mock(ApplicationEventPublisher.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(viewCountService, "dedupeMode", ViewCountService.DedupeMode.SCRIPT);
+        ReflectionTestUtils.setField(viewCountService, "dedupeTtlSeconds", 300L);
+    }
+
+    @Test
+    void recordViewSetsExpiringViewerKeyAndDrainRemovesPendingHash() {
+        assertThat(viewCountService.recordView(POST_ID, "ip:10.0.0.1")).isEqualTo(1);
+        assertThat(viewCountService.recordView(POST_ID, "ip:10.0.0.1")).isEqualTo(1);
+        assertThat(viewCountService.recordView(POST_ID, "ip:10.0.0.2")).isEqualTo(2);
+
+        Long ttl = redisTemplate.getExpire("view:post:1:ip:10.0.0.1", TimeUnit.SECONDS);
+        assertThat(ttl).isBetween(1L, 300L);
+
+        viewCountService.flushPendingViewCounts();
+
+        assertThat(persistedViewCounts.get(POST_ID)).isEqualTo(2);
+        assertThat(redisTemplate.hasKey("view:pending")).isFalse();
+        // 중복 판별 키는 반영 후에도 TTL 동안 남아 재조회를 막는다
+        assertThat(viewCountService.recordView(POST_ID, "ip:10.0.0.1")).isZero();
+    }
+
+    @Test
+    void concurrentReadsBySameViewersAreCountedOnce() throws Exception {
+        int viewers = 20;
+        runConcurrently(16, 200, i -> viewCountService.recordView(POST_ID, "ip:10.0.0." + (i % viewers)));
+
+        assertThat(viewCountService.getPendingCount(POST_ID)).isEqualTo(viewers);
+
+        viewCountService.flushPendingViewCounts();
+
+        assertThat(persistedViewCounts.get(POST_ID)).isEqualTo(viewers);
+        assertThat(viewCountService.getPendingCount(POST_ID)).isZero();
+    }
+
+    @Test
+    void concurrentDistinctViewersAreAllCounted() throws Exception {
+        int threads = 8;
+        int viewsPerThread = 250;
+        runConcurrently(threads, viewsPerThread, i -> viewCountService.recordView(POST_ID, "user:" + i + ":ip:10.0.0.1"));
+
+        viewCountService.flushPendingViewCounts();
+
+        assertThat(persistedViewCounts.get(POST_ID)).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    void viewsDuringFlushAreNotLostOrDoubleCounted() throws Exception {
+        int totalViews = 2000;
+        ExecutorService flusher = Executors.newSingleThreadExecutor();
+        CountDownLatch done = new CountDownLatch(1);
+        Future<?> flushing = flusher.submit(() -> {
+            while (done.getCount() > 0) {
+                viewCountService.flushPendingViewCounts();
+            }
+        });
+
+        runConcurrently(8, totalViews / 8, i -> viewCountService.recordView(POST_ID, "ip:" + i));
+        done.countDown();
+        flushing.get(10, TimeUnit.SECONDS);
+        flusher.shutdown();
+        viewCountService.flushPendingViewCounts();
+
+        assertThat(persistedViewCounts.get(POST_ID)).isEqualTo(totalViews);
+    }
+
+    @Test
+    void hllModeDedupesWithoutViewerKeys() {
+        ReflectionTestUtils.setField(viewCountService, "dedupeMode", ViewCountService.DedupeMode.HLL);
+        ReflectionTestUtils.setField(viewCountService, "uniqueViewerTtlDays", 30L);
+        int viewers = 200;
+        for (int i = 0; i < viewers; i++) {
+            viewCountService.recordView(POST_ID, "ip:10.0.1." + i);
+            viewCountService.recordView(POST_ID, "ip:10.0.1." + i); // 같은 구간의 재조회는 레지스터를 바꾸지 않는다
+        }
+
+        // 조회자 수가 레지스터 수보다 훨씬 적으면 누락은 드물다 (대략 n / 2m = 0.6%)
+        assertThat(viewCountService.getPendingCount(POST_ID)).isBetween((long) viewers * 95 / 100, (long) viewers);
+        assertThat(redisTemplate.keys("view:post:*")).isEmpty();
+        assertThat(redisTemplate.keys("view:hll:1:*")).hasSize(1);
+        assertThat(viewCountService.getUniqueViewerCount(POST_ID)).isBetween(190L, 210L);
+    }
+
+    private void runConcurrently(int threads, int iterationsPerThread, ViewAction action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * iterationsPerThread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < iterationsPerThread; i++) {
+                    action.run(offset + i);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface ViewAction {
+        void run(int index);
+    }
+}
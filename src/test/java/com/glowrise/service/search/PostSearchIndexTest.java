@@ -0,0 +1,100 @@
+package com.glowrise.service.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 색인한 게시글의 추가/수정/삭제가 refresh() 이후 search() 결과에 그대로 반영되는지 검증한다.
+ */
+class PostSearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void open() throws IOException {
+        index = newIndex();
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        if (index != null) {
+            index.close();
+        }
+    }
+
+    @Test
+    void indexUpdateAndDeleteAreReflectedInSearch() {
+        index.index(List.of(
+                document(1L, "검색엔진 튜닝 기록", "루씬으로 색인을 만들었다"),
+                document(2L, "스프링 설정 정리", "빈 등록 순서")));
+        index.refresh();
+
+        PostSearchHits found = index.search("검색엔진", 0, 10);
+        assertThat(found.postIds()).containsExactly(1L);
+        assertThat(found.totalHits()).isEqualTo(1);
+        assertThat(found.hits().get(0).titleHighlight()).contains("<mark>");
+
+        index.index(List.of(document(1L, "캐시 설계 기록", "로컬 캐시와 Redis")));
+        index.refresh();
+
+        assertThat(index.search("검색엔진", 0, 10).postIds()).isEmpty();
+        assertThat(index.search("캐시", 0, 10).postIds()).containsExactly(1L);
+        assertThat(index.postIds()).containsExactlyInAnyOrder(1L, 2L);
+
+        index.delete(List.of(1L));
+        index.refresh();
+
+        assertThat(index.search("캐시", 0, 10).postIds()).isEmpty();
+        assertThat(index.search("캐시", 0, 10).totalHits()).isZero();
+        assertThat(index.search("스프링", 0, 10).postIds()).containsExactly(2L);
+        assertThat(index.postIds()).containsExactly(2L);
+    }
+
+    @Test
+    void changesAreHiddenUntilRefresh() {
+        index.index(List.of(document(1L, "검색엔진 튜닝 기록", "본문")));
+
+        assertThat(index.search("검색엔진", 0, 10).postIds()).isEmpty();
+
+        index.refresh();
+
+        assertThat(index.search("검색엔진", 0, 10).postIds()).containsExactly(1L);
+    }
+
+    @Test
+    void reopenedIndexKeepsDocumentsAndCommitData() throws IOException {
+        index.index(List.of(document(1L, "검색엔진 튜닝 기록", "본문")));
+        index.commit(Map.of("watermark", "2026-01-01T00:00"));
+        index.close();
+        index = null;
+
+        index = newIndex();
+
+        assertThat(index.getLastCommitData()).containsEntry("watermark", "2026-01-01T00:00");
+        assertThat(index.search("검색엔진", 0, 10).postIds()).containsExactly(1L);
+    }
+
+    private PostSearchIndex newIndex() throws IOException {
+        PostSearchIndex opened = new PostSearchIndex(indexDir.toString(), 3.0f, 150);
+        opened.open();
+        return opened;
+    }
+
+    private static PostSearchDocument document(Long postId, String title, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PostSearchDocument(postId, title, body, "작성자", now, now);
+    }
+}
@@ -0,0 +1,106 @@
+package com.glowrise.service.search;
+
+import com.glowrise.service.dto.PostSummaryDTO;
+import com.glowrise.service.dto.SearchResultDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 변경이 그 게시글을 담았거나 새 내용이 검색어에 걸리는 키만 무효화하는지,
+ * 계산 중이던 결과는 시작 이후 그 키에 해당하는 무효화가 있었을 때만 버려지는지 검증한다.
+ */
+class SearchResultCacheTest {
+
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+
+    @TempDir
+    Path indexDir;
+
+    private PostSearchIndex index;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new PostSearchIndex(indexDir.toString(), 3.0f, 150);
+        index.open();
+        cache = new SearchResultCache(index, new SimpleMeterRegistry(), 30, 100, 10, 10, 20, 64);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void postChangeInvalidatesOnlyKeysItAffects() {
+        SearchResultCache.Key containing = key("스프링");
+        SearchResultCache.Key newlyMatching = key("캐시");
+        SearchResultCache.Key unrelated = key("여행");
+        cache.put(containing, result(1L), cache.stamp());
+        cache.put(newlyMatching, result(), cache.stamp());
+        cache.put(unrelated, result(2L), cache.stamp());
+
+        PostSearchDocument changed = index(1L, "캐시 설계 기록", "로컬 캐시와 Redis");
+        cache.onPostsIndexed(List.of(changed), List.of());
+
+        assertThat(cache.get(containing)).isNull();
+        assertThat(cache.get(newlyMatching)).isNull();
+        assertThat(cache.get(unrelated)).isNotNull();
+    }
+
+    @Test
+    void inFlightResultIsDroppedOnlyWhenItsKeyWasInvalidated() {
+        SearchResultCache.Key affected = key("캐시");
+        SearchResultCache.Key unaffected = key("여행");
+        long started = cache.stamp();
+
+        cache.onPostsIndexed(List.of(index(1L, "캐시 설계 기록", "본문")), List.of());
+
+        assertThat(cache.put(affected, result(), started)).isFalse();
+        assertThat(cache.put(unaffected, result(2L), started)).isTrue();
+        assertThat(cache.get(unaffected)).isNotNull();
+
+        long beforeReset = cache.stamp();
+        cache.invalidateAll("test");
+
+        assertThat(cache.put(unaffected, result(2L), beforeReset)).isFalse();
+        assertThat(cache.put(unaffected, result(2L), cache.stamp())).isTrue();
+    }
+
+    private PostSearchDocument index(Long postId, String title, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        PostSearchDocument document = new PostSearchDocument(postId, title, body, "작성자", now, now);
+        index.index(List.of(document));
+        index.refresh();
+        return document;
+    }
+
+    private static SearchResultCache.Key key(String query) {
+        return new SearchResultCache.Key(SearchResultCache.normalize(query), PAGE, PAGE);
+    }
+
+    private static SearchResultDTO result(Long... postIds) {
+        List<PostSummaryDTO> posts = Arrays.stream(postIds).map(id -> {
+            PostSummaryDTO post = new PostSummaryDTO();
+            post.setId(id);
+            return post;
+        }).toList();
+        Page<PostSummaryDTO> page = new PageImpl<>(posts, PAGE, posts.size());
+        return new SearchResultDTO(page, Page.empty(PAGE), List.of());
+    }
+}
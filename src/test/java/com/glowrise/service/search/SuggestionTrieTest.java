@@ -0,0 +1,117 @@
+package com.glowrise.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 압축 트라이의 간선 분리/병합, 항목 교체와 삭제, 자모 단위 접두어, 여러 키로 등록된 항목의 상위 목록 중복 제거를 검증한다.
+ */
+class SuggestionTrieTest {
+
+    @Test
+    void splitAndMergeKeepPrefixLookups() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.put(post(1L, "spring boot", 10));
+        trie.put(post(2L, "spring batch", 5));   // "spring b"에서 간선 분리
+        trie.put(post(3L, "spr", 1));            // 간선 중간에서 끝나는 키
+
+        assertThat(ids(trie.suggest("spr", 10))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(trie.suggest("spring b", 10))).containsExactly(1L, 2L);
+        assertThat(ids(trie.suggest("spring bo", 10))).containsExactly(1L);
+        assertThat(ids(trie.suggest("spring ba", 10))).containsExactly(2L);
+
+        trie.remove(SuggestionType.POST, 2L);    // 갈림이 없어진 노드는 자식과 병합
+        trie.remove(SuggestionType.POST, 3L);
+
+        assertThat(ids(trie.suggest("spr", 10))).containsExactly(1L);
+        assertThat(ids(trie.suggest("spring b", 10))).containsExactly(1L);
+        assertThat(ids(trie.suggest("spring bo", 10))).containsExactly(1L);
+        assertThat(trie.suggest("spring ba", 10)).isEmpty();
+        assertThat(trie.suggest("batch", 10)).isEmpty();
+        assertThat(ids(trie.suggest("boot", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void rePutReplacesWeightAndText() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.put(post(1L, "여행 기록", 1));
+        trie.put(post(2L, "여행 사진", 2));
+
+        assertThat(ids(trie.suggest("여행", 10))).containsExactly(2L, 1L);
+
+        trie.put(post(1L, "여행 기록", 3));
+
+        assertThat(ids(trie.suggest("여행", 10))).containsExactly(1L, 2L);
+        assertThat(trie.suggest("여행", 10).get(0).weight()).isEqualTo(3);
+
+        trie.put(post(1L, "맛집 기록", 3));
+
+        assertThat(ids(trie.suggest("여행", 10))).containsExactly(2L);
+        assertThat(ids(trie.suggest("맛집", 10))).containsExactly(1L);
+        assertThat(ids(trie.suggest("기록", 10))).containsExactly(1L);
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    void removeIfRemovesEveryKeyOfMatchedEntries() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.put(new Suggestion(SuggestionType.POST, 1L, "여행 기록", 1L, "first", 1L, 3));
+        trie.put(new Suggestion(SuggestionType.POST, 2L, "여행 사진", 1L, "first", 1L, 2));
+        trie.put(new Suggestion(SuggestionType.POST, 3L, "여행 맛집", 2L, "second", 2L, 1));
+
+        trie.removeIf(suggestion -> suggestion.blogId().equals(1L));
+
+        assertThat(ids(trie.suggest("여행", 10))).containsExactly(3L);
+        assertThat(trie.suggest("기록", 10)).isEmpty();
+        assertThat(trie.suggest("사진", 10)).isEmpty();
+        assertThat(ids(trie.suggest("맛집", 10))).containsExactly(3L);
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    void composingHangulAndCaseMatchByJamoPrefix() {
+        SuggestionTrie trie = new SuggestionTrie(10);
+        trie.put(post(1L, "안녕하세요", 1));
+        trie.put(post(2L, "Spring 입문", 1));
+
+        assertThat(ids(trie.suggest("ㅇ", 10))).containsExactlyInAnyOrder(1L, 2L); // 두 번째 단어 "입문"도 ㅇ으로 시작
+        assertThat(ids(trie.suggest("아", 10))).containsExactly(1L);
+        assertThat(ids(trie.suggest("안ㄴ", 10))).containsExactly(1L);
+        assertThat(ids(trie.suggest("안녀", 10))).containsExactly(1L);
+        assertThat(ids(trie.suggest("안녕ㅎㅏ", 10))).containsExactly(1L); // 호환 자모도 같은 자모로 맞춘다
+        assertThat(trie.suggest("안녕ㅎㅓ", 10)).isEmpty();
+        assertThat(ids(trie.suggest("SPR", 10))).containsExactly(2L);
+        assertThat(ids(trie.suggest("ㅇㅣ", 10))).containsExactly(2L);
+    }
+
+    @Test
+    void topKListsEntryOnceEvenWhenReachableByManyKeys() {
+        SuggestionTrie trie = new SuggestionTrie(3);
+        trie.put(post(1L, "여행 여행 여행", 100)); // 키 "여행 여행 여행", "여행 여행", "여행"이 모두 "여행" 아래에 있다
+        trie.put(post(2L, "여행 사진", 50));
+        trie.put(post(3L, "여행 기록", 40));
+        trie.put(post(4L, "여행 맛집", 30));
+
+        assertThat(ids(trie.suggest("여행", 10))).containsExactly(1L, 2L, 3L);
+
+        trie.remove(SuggestionType.POST, 1L);
+
+        assertThat(ids(trie.suggest("여행", 10))).containsExactly(2L, 3L, 4L);
+
+        trie.put(post(1L, "여행 여행 여행", 100));
+
+        assertThat(ids(trie.suggest("여행", 10))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(trie.suggest("여행", 2))).containsExactly(1L, 2L);
+    }
+
+    private static Suggestion post(Long id, String title, long weight) {
+        return new Suggestion(SuggestionType.POST, id, title, 1L, "blog", 1L, weight);
+    }
+
+    private static List<Long> ids(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::id).toList();
+    }
+}
@@ -27,7 +27,8 @@ const routes = [
         component: SearchResultPage, // 연결할 컴포넌트
         props: route => ({
             query: route.query.q || '',
-            initialPage: parseInt(route.query.page) || 0
+            initialPage: parseInt(route.query.page) || 0,
+            initialUserPage: parseInt(route.query.userPage) || 0
         }),
     },
 
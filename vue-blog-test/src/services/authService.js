@@ -278,8 +278,13 @@ const authService = {
     },
 
     // --- 댓글 관련 API ---
-    getCommentsByPostId: async (postId) => {
-        const response = await apiClient.get(`/api/comments/post/${postId}`);
+    // 최상위 댓글 커서 목록 ({content, hasNext, nextCursor}). 각 댓글에 앞쪽 답글과 replyCount, replyCursor 포함
+    getCommentsByPostId: async (postId, cursor = null, size = 20) => {
+        const response = await apiClient.get(`/api/comments/post/${postId}`, {params: {cursor, size}});
+        return response.data;
+    },
+    getReplies: async (commentId, cursor = null, size = 20) => {
+        const response = await apiClient.get(`/api/comments/${commentId}/replies`, {params: {cursor, size}});
         return response.data;
     },
     createComment: async (commentData) => {
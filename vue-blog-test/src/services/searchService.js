@@ -2,7 +2,8 @@ import axios from 'axios';
 
 const API_URL = 'http://localhost:8080/api/search';
 
-export const searchIntegrated = async (query, page = 0, size = 10) => {
+// 게시글과 계정 결과는 페이지를 따로 넘긴다. (계정: users_page, users_size)
+export const searchIntegrated = async (query, page = 0, size = 10, userPage = 0, userSize = size) => {
     if (!query) {
 
         const emptyPage = {
@@ -14,7 +15,7 @@ export const searchIntegrated = async (query, page = 0, size = 10) => {
             first: true,
             last: true
         };
-        return {posts: emptyPage, users: emptyPage};
+        return {posts: emptyPage, users: emptyPage, degradedSections: []};
     }
 
     try {
@@ -23,6 +24,8 @@ export const searchIntegrated = async (query, page = 0, size = 10) => {
                 query,
                 page,
                 size,
+                users_page: userPage,
+                users_size: userSize,
             }
         });
         return response.data;
@@ -32,3 +35,17 @@ export const searchIntegrated = async (query, page = 0, size = 10) => {
         throw error;
     }
 };
+
+// 검색창 자동완성. 입력 중에는 전체 검색 대신 이 API만 호출한다.
+export const suggest = async (query, limit = 8) => {
+    if (!query || !query.trim()) {
+        return [];
+    }
+    const response = await axios.get(`${API_URL}/suggest`, {
+        params: {
+            query,
+            limit,
+        }
+    });
+    return response.data;
+};
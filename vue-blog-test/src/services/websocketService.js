@@ -65,4 +65,24 @@ export const websocketService = {
             subscribers.splice(index, 1);
         }
     },
-};
\ No newline at end of file
+
+    // 게시글 댓글 변경 구독 (로그인 없이도 사용, 알림 연결과 별도). 반환한 함수로 구독 해제
+    subscribePostComments(postId, onBatch) {
+        const client = new Client({
+            webSocketFactory: () => new SockJS('http://localhost:8080/ws'),
+            reconnectDelay: 5000,
+            heartbeatIncoming: 4000,
+            heartbeatOutgoing: 4000,
+        });
+        client.onConnect = () => {
+            client.subscribe(`/topic/posts/${postId}/comments`, (message) => {
+                onBatch(JSON.parse(message.body));
+            });
+        };
+        client.onStompError = (frame) => {
+            console.error('STOMP Error:', frame);
+        };
+        client.activate();
+        return () => client.deactivate();
+    },
+};